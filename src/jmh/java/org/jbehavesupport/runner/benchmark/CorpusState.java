@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner.benchmark;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Size of the synthetic corpus, can be changed by JMH parameters, e.g. {@code -p stories=1000}.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+@State(Scope.Benchmark)
+public class CorpusState {
+
+    @Param("50")
+    public int stories;
+
+    @Param("5")
+    public int scenarios;
+
+    @Param("3")
+    public int exampleRows;
+
+    @Param("100")
+    public int candidates;
+
+    @Param("2")
+    public int compositeDepth;
+
+    StoryCorpus corpus;
+
+    @Setup
+    public void setUp() {
+        corpus = new StoryCorpus(stories, scenarios, exampleRows, candidates, compositeDepth);
+        SyntheticStories.corpus = corpus;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner.benchmark;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.embedder.Embedder;
+import org.jbehave.core.embedder.PerformableTree;
+import org.jbehave.core.failures.BatchFailures;
+import org.jbehave.core.steps.CandidateSteps;
+import org.jbehavesupport.runner.JUnitRunner;
+import org.jbehavesupport.runner.description.StoryParser;
+import org.jbehavesupport.runner.description.StoryResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Startup of the runner: whole runner construction and building of descriptions from a parsed performable tree.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DiscoveryBenchmark {
+
+    private PerformableTree performableTree;
+    private List<CandidateSteps> candidateSteps;
+    private Configuration configuration;
+
+    @Setup
+    public void setUp(CorpusState corpusState) {
+        Embedder embedder = new SyntheticStories().configuredEmbedder();
+        configuration = embedder.configuration();
+        candidateSteps = embedder.stepsFactory().createCandidateSteps();
+        performableTree = new PerformableTree();
+        PerformableTree.RunContext context = performableTree.newRunContext(configuration, candidateSteps,
+            embedder.embedderMonitor(), embedder.metaFilter(), new BatchFailures());
+        for (String storyPath : corpusState.corpus.storyPaths()) {
+            performableTree.addStories(context,
+                Collections.singletonList(performableTree.storyOfPath(configuration, storyPath)));
+        }
+    }
+
+    @Benchmark
+    public JUnitRunner runnerConstruction() throws Exception {
+        return new JUnitRunner(SyntheticStories.class);
+    }
+
+    @Benchmark
+    public StoryResult buildDescription() {
+        return StoryParser.parse(performableTree, JUnitRunner.ReportLevel.STEP)
+            .withCandidateSteps(candidateSteps)
+            .withKeywords(configuration.keywords())
+            .buildDescription();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jbehave.core.configuration.Keywords;
+import org.jbehavesupport.runner.JUnitRunnerFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares {@link JUnitRunnerFormatter} with the regex based formatter.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JUnitRunnerFormatterBenchmark {
+
+    private final Keywords keywords = new Keywords();
+    private final String storyName = "org/jbehavesupport/runner/story/login (admin).story";
+    private final String scenario = "Login to the system\nwith administrator (root) account";
+    private final String example = "{username=admin, password=secret.password}";
+    private final String step = "Given login with data:\n|username|password|\n|admin|secret|";
+    private final String plainStep = "Then the response code is 200";
+    private final String displayName = "Story: Login(org.jbehave.core.model.Story)";
+
+    @Benchmark
+    public void singleScan(Blackhole blackhole) {
+        blackhole.consume(JUnitRunnerFormatter.buildStoryText(storyName));
+        blackhole.consume(JUnitRunnerFormatter.buildScenarioText(keywords, scenario));
+        blackhole.consume(JUnitRunnerFormatter.buildExampleText(keywords, example));
+        blackhole.consume(JUnitRunnerFormatter.normalizeStep(step));
+        blackhole.consume(JUnitRunnerFormatter.normalizeStep(plainStep));
+        blackhole.consume(JUnitRunnerFormatter.removeClass(displayName));
+    }
+
+    @Benchmark
+    public void regex(Blackhole blackhole) {
+        blackhole.consume(RegexJUnitRunnerFormatter.buildStoryText(storyName));
+        blackhole.consume(RegexJUnitRunnerFormatter.buildScenarioText(keywords, scenario));
+        blackhole.consume(RegexJUnitRunnerFormatter.buildExampleText(keywords, example));
+        blackhole.consume(RegexJUnitRunnerFormatter.normalizeStep(step));
+        blackhole.consume(RegexJUnitRunnerFormatter.normalizeStep(plainStep));
+        blackhole.consume(RegexJUnitRunnerFormatter.removeClass(displayName));
+    }
+}
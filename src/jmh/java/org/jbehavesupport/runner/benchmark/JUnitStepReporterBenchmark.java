@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner.benchmark;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.embedder.Embedder;
+import org.jbehave.core.reporters.StoryReporter;
+import org.jbehavesupport.runner.JUnitRunner;
+import org.jbehavesupport.runner.reporter.JUnitStepReporter;
+import org.junit.runner.Description;
+import org.junit.runner.notification.RunNotifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Replays the story reporter events, recorded once from a run of the corpus, to a step reporter.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JUnitStepReporterBenchmark {
+
+    private final List<Event> events = new ArrayList<>();
+    private Description description;
+    private Configuration configuration;
+
+    @Setup
+    public void setUp(CorpusState corpusState) throws Exception {
+        description = new JUnitRunner(SyntheticStories.class).getDescription();
+        Embedder embedder = new SyntheticStories().configuredEmbedder();
+        configuration = embedder.configuration();
+        StoryReporter recorder = (StoryReporter) Proxy.newProxyInstance(StoryReporter.class.getClassLoader(),
+            new Class<?>[]{StoryReporter.class}, (proxy, method, args) -> {
+                if (method.getDeclaringClass() == StoryReporter.class) {
+                    events.add(new Event(method, args));
+                }
+                return null;
+            });
+        configuration.storyReporterBuilder().withReporters(recorder);
+        embedder.runStoriesAsPaths(corpusState.corpus.storyPaths());
+    }
+
+    @Benchmark
+    public JUnitStepReporter replay() throws InvocationTargetException, IllegalAccessException {
+        JUnitStepReporter reporter = new JUnitStepReporter(new RunNotifier(), description, configuration);
+        for (Event event : events) {
+            event.method.invoke(reporter, event.args);
+        }
+        return reporter;
+    }
+
+    private static class Event {
+        private final Method method;
+        private final Object[] args;
+
+        private Event(Method method, Object[] args) {
+            this.method = method;
+            this.args = args;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner.benchmark;
+
+import org.jbehave.core.configuration.Keywords;
+
+/**
+ * Regex based formatter as it was before single scan formatting, kept as a baseline for benchmarks.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+final class RegexJUnitRunnerFormatter {
+
+    private static final String FORMAT_SIMPLE = "%s %s";
+    private static final String FORMAT_SEMICOLON = "%s: %s";
+    private static final String STORY = "Story";
+
+    private RegexJUnitRunnerFormatter() {
+        throw new UnsupportedOperationException();
+    }
+
+    static String buildStoryText(String text) {
+        return String.format(FORMAT_SEMICOLON, STORY, stripDots(normalizeStoryName(text)));
+    }
+
+    static String buildScenarioText(Keywords keywords, String text) {
+        return String.format(FORMAT_SIMPLE, keywords.scenario(), stripDots(cleanup(text)));
+    }
+
+    static String buildExampleText(Keywords keywords, String text) {
+        return String.format(FORMAT_SIMPLE, keywords.examplesTableRow(), stripDots(cleanup(text)));
+    }
+
+    static String normalizeStoryName(String storyName) {
+        String result;
+        if (storyName.contains(".")) {
+            result = storyName.substring(0, storyName.indexOf("."));
+        } else {
+            result = storyName;
+        }
+        return cleanup(result);
+    }
+
+    static String normalizeStep(String step) {
+        int newLineIndex = step.indexOf("\n");
+        return cleanup(step.substring(0, newLineIndex == -1 ? step.length() : newLineIndex - 1));
+    }
+
+    static String removeClass(String text) {
+        return text.replaceAll("\\(.*\\)", "");
+    }
+
+    private static String stripDots(String text) {
+        return text.replaceAll("\\.", "");
+    }
+
+    private static String cleanup(String text) {
+        return text.replaceAll("[\r\n]+", ", ").replaceAll("[()]", "|");
+    }
+}
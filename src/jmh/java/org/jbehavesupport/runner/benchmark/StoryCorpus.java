@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner.benchmark;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jbehave.core.annotations.ScenarioType;
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.io.StoryLoader;
+import org.jbehave.core.io.StoryResourceNotFound;
+import org.jbehave.core.steps.BeforeOrAfterStep;
+import org.jbehave.core.steps.CandidateSteps;
+import org.jbehave.core.steps.InjectableStepsFactory;
+import org.jbehave.core.steps.StepCandidate;
+import org.jbehave.core.steps.StepType;
+import org.jbehave.core.steps.context.StepsContext;
+
+/**
+ * Synthetic stories and step candidates of configurable size. Stories are kept in memory, every step of a story
+ * matches one of the candidates. Candidates are spread over 50 leading words.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+class StoryCorpus {
+
+    private static final int STEPS_PER_SCENARIO = 5;
+    private static final int LEADING_WORDS = 50;
+    private static final StepType[] STEP_TYPES = {StepType.GIVEN, StepType.WHEN, StepType.THEN};
+
+    private final int candidates;
+    private final int compositeDepth;
+    private final Map<String, String> storyTexts = new LinkedHashMap<>();
+    private final List<String> steps = new ArrayList<>();
+
+    StoryCorpus(int stories, int scenarios, int exampleRows, int candidates, int compositeDepth) {
+        if (candidates < STEP_TYPES.length) {
+            throw new IllegalArgumentException("At least " + STEP_TYPES.length + " candidates are required");
+        }
+        this.candidates = candidates;
+        this.compositeDepth = compositeDepth;
+        Keywords keywords = new Keywords();
+        for (int story = 0; story < stories; story++) {
+            StringBuilder text = new StringBuilder();
+            for (int scenario = 0; scenario < scenarios; scenario++) {
+                text.append(keywords.scenario()).append(" scenario ").append(scenario).append('\n');
+                String value = exampleRows > 0 ? "<value>" : "value" + scenario;
+                for (int step = 0; step < STEPS_PER_SCENARIO; step++) {
+                    int candidate = (story * scenarios * STEPS_PER_SCENARIO + scenario * STEPS_PER_SCENARIO + step)
+                        % candidates;
+                    addStep(text, keywords, candidate, value);
+                }
+                if (compositeDepth > 0) {
+                    addStep(text, keywords.given() + " " + compositePattern(compositeDepth, value));
+                }
+                if (exampleRows > 0) {
+                    text.append(keywords.examplesTable()).append("\n|value|\n");
+                    for (int row = 0; row < exampleRows; row++) {
+                        text.append("|row").append(row).append("|\n");
+                    }
+                }
+                text.append('\n');
+            }
+            storyTexts.put("synthetic/story" + story + ".story", text.toString());
+        }
+    }
+
+    List<String> storyPaths() {
+        return new ArrayList<>(storyTexts.keySet());
+    }
+
+    /**
+     * Step texts of all stories in the order of stories, as they are passed to the unique description generator.
+     */
+    List<String> steps() {
+        return steps;
+    }
+
+    Configuration configuration() {
+        return new MostUsefulConfiguration().useStoryLoader(new CorpusStoryLoader());
+    }
+
+    InjectableStepsFactory stepsFactory(Configuration configuration) {
+        return new InjectableStepsFactory() {
+            @Override
+            public List<CandidateSteps> createCandidateSteps() {
+                return Collections.singletonList(new SyntheticCandidateSteps(configuration, this));
+            }
+
+            @Override
+            public Object createInstanceOfType(Class<?> type) {
+                return new SyntheticSteps();
+            }
+        };
+    }
+
+    private void addStep(StringBuilder text, Keywords keywords, int candidate, String value) {
+        addStep(text, keywords.startingWordFor(STEP_TYPES[candidate % STEP_TYPES.length]) + " "
+            + pattern(candidate, value));
+    }
+
+    private void addStep(StringBuilder text, String step) {
+        text.append(step).append('\n');
+        steps.add(step);
+    }
+
+    private static String pattern(int candidate, String value) {
+        return "word" + (candidate % LEADING_WORDS) + " synthetic step " + candidate + " with " + value;
+    }
+
+    private static String compositePattern(int depth, String value) {
+        return "composite " + depth + " with " + value;
+    }
+
+    private class CorpusStoryLoader implements StoryLoader {
+
+        @Override
+        public String loadStoryAsText(String storyPath) {
+            String text = storyTexts.get(storyPath);
+            if (text == null) {
+                throw new StoryResourceNotFound(storyPath, StoryCorpus.class.getClassLoader());
+            }
+            return text;
+        }
+
+        @Override
+        public String loadResourceAsText(String resourcePath) {
+            return loadStoryAsText(resourcePath);
+        }
+    }
+
+    private class SyntheticCandidateSteps implements CandidateSteps {
+
+        private final Configuration configuration;
+        private final InjectableStepsFactory stepsFactory;
+        private final Method method;
+
+        private SyntheticCandidateSteps(Configuration configuration, InjectableStepsFactory stepsFactory) {
+            this.configuration = configuration;
+            this.stepsFactory = stepsFactory;
+            try {
+                this.method = SyntheticSteps.class.getMethod("step", String.class);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public List<StepCandidate> listCandidates() {
+            List<StepCandidate> result = new ArrayList<>();
+            for (int candidate = 0; candidate < candidates; candidate++) {
+                result.add(candidate(pattern(candidate, "$value"), STEP_TYPES[candidate % STEP_TYPES.length]));
+            }
+            Keywords keywords = configuration.keywords();
+            for (int depth = 1; depth <= compositeDepth; depth++) {
+                StepCandidate composite = candidate(compositePattern(depth, "$value"), StepType.GIVEN);
+                String composed = depth == 1
+                    ? keywords.when() + " " + pattern(1, "composed")
+                    : keywords.given() + " " + compositePattern(depth - 1, "composed");
+                composite.composedOf(new String[]{keywords.given() + " " + pattern(0, "composed"), composed});
+                result.add(composite);
+            }
+            return result;
+        }
+
+        private StepCandidate candidate(String pattern, StepType stepType) {
+            StepCandidate candidate = new StepCandidate(pattern, 0, stepType, method, SyntheticSteps.class,
+                stepsFactory, new StepsContext(), configuration.keywords(), configuration.stepPatternParser(),
+                configuration.parameterConverters(), configuration.parameterControls());
+            candidate.useStepMonitor(configuration.stepMonitor());
+            candidate.useParanamer(configuration.paranamer());
+            return candidate;
+        }
+
+        @Override
+        public List<BeforeOrAfterStep> listBeforeOrAfterStories() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<BeforeOrAfterStep> listBeforeOrAfterStory(boolean givenStory) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<BeforeOrAfterStep> listBeforeOrAfterScenario(ScenarioType type) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public Configuration configuration() {
+            return configuration;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner.benchmark;
+
+import java.util.List;
+
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.junit.JUnitStories;
+import org.jbehave.core.steps.InjectableStepsFactory;
+import org.jbehavesupport.runner.JUnitRunnerConfiguration;
+
+/**
+ * Stories of the current corpus. Runner creates the instance by itself, so the corpus is static.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+public class SyntheticStories extends JUnitStories {
+
+    static volatile StoryCorpus corpus;
+
+    private final Configuration configuration = corpus.configuration();
+
+    public SyntheticStories() {
+        JUnitRunnerConfiguration.recommendedConfiguration(configuredEmbedder());
+    }
+
+    @Override
+    public Configuration configuration() {
+        return configuration;
+    }
+
+    @Override
+    public InjectableStepsFactory stepsFactory() {
+        return corpus.stepsFactory(configuration);
+    }
+
+    @Override
+    protected List<String> storyPaths() {
+        return corpus.storyPaths();
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.jbehave.core.steps.CandidateSteps;
+import org.jbehave.core.steps.StepCandidate;
+
+/**
+ * SHA-256 hash of story texts, bytecode of steps classes and settings descriptions are built from.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+class DescriptionCacheKey {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final MessageDigest digest;
+
+    DescriptionCacheKey() {
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    DescriptionCacheKey add(String value) {
+        byte[] bytes = String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+        addLength(bytes.length);
+        digest.update(bytes);
+        return this;
+    }
+
+    /**
+     * Adds bytecode of classes of all step candidates and their superclasses.
+     *
+     * @throws IOException when bytecode of a class is not available
+     */
+    DescriptionCacheKey addStepsClasses(Iterable<CandidateSteps> candidateSteps) throws IOException {
+        Set<Class<?>> classes = new LinkedHashSet<>();
+        for (CandidateSteps candidateStep : candidateSteps) {
+            classes.add(candidateStep.getClass());
+            for (StepCandidate stepCandidate : candidateStep.listCandidates()) {
+                for (Class<?> type = stepCandidate.getStepsType(); type != null && type != Object.class;
+                     type = type.getSuperclass()) {
+                    classes.add(type);
+                }
+            }
+        }
+        for (Class<?> type : classes) {
+            addClass(type);
+        }
+        return this;
+    }
+
+    /**
+     * Adds bytecode of the steps class and its superclasses.
+     *
+     * @throws IOException when bytecode of a class is not available
+     */
+    DescriptionCacheKey addStepsType(Class<?> stepsType) throws IOException {
+        for (Class<?> type = stepsType; type != null && type != Object.class; type = type.getSuperclass()) {
+            addClass(type);
+        }
+        return this;
+    }
+
+    private void addClass(Class<?> type) throws IOException {
+        add(type.getName());
+        String resource = type.getName().replace('.', '/') + ".class";
+        ClassLoader classLoader = type.getClassLoader() == null
+            ? ClassLoader.getSystemClassLoader() : type.getClassLoader();
+        try (InputStream input = classLoader.getResourceAsStream(resource)) {
+            if (input == null) {
+                throw new IOException("Bytecode of " + type.getName() + " is not available");
+            }
+            byte[] buffer = new byte[8192];
+            for (int read = input.read(buffer); read != -1; read = input.read(buffer)) {
+                digest.update(buffer, 0, read);
+            }
+        }
+    }
+
+    private void addLength(int length) {
+        digest.update((byte) (length >>> 24));
+        digest.update((byte) (length >>> 16));
+        digest.update((byte) (length >>> 8));
+        digest.update((byte) length);
+    }
+
+    String hash() {
+        byte[] hash = digest.digest();
+        char[] result = new char[hash.length * 2];
+        for (int index = 0; index < hash.length; index++) {
+            result[index * 2] = HEX[(hash[index] >> 4) & 0xF];
+            result[index * 2 + 1] = HEX[hash[index] & 0xF];
+        }
+        return new String(result);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.embedder.EmbedderMonitor;
+import org.jbehave.core.embedder.MetaFilter;
+import org.jbehave.core.embedder.PerformableTree;
+import org.jbehave.core.failures.BatchFailures;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.steps.CandidateSteps;
+
+/**
+ * Performable tree which keeps stories and the run context created during discovery. When it is used by the
+ * embedder, stories are neither parsed nor matched to steps again. Stories which did not start yet are not performed
+ * once the fail fast threshold is reached. Given stories marked by {@code @memoize} meta are performed only once when
+ * memoization is used.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+class DiscoveredPerformableTree extends PerformableTree {
+
+    private final Map<String, Story> storiesByPath = new HashMap<>();
+    private final Set<Story> addedStories = Collections.newSetFromMap(new IdentityHashMap<>());
+    private RunContext runContext;
+    private FailFast failFast;
+    private MemoizedGivenStories memoizedGivenStories;
+
+    DiscoveredPerformableTree useFailFast(FailFast failFast) {
+        this.failFast = failFast;
+        return this;
+    }
+
+    DiscoveredPerformableTree useMemoizedGivenStories(MemoizedGivenStories memoizedGivenStories) {
+        this.memoizedGivenStories = memoizedGivenStories;
+        return this;
+    }
+
+    @Override
+    public synchronized RunContext newRunContext(Configuration configuration, List<CandidateSteps> candidateSteps,
+                                                 EmbedderMonitor embedderMonitor, MetaFilter filter,
+                                                 BatchFailures failures) {
+        if (runContext == null) {
+            runContext = super.newRunContext(configuration, candidateSteps, embedderMonitor, filter, failures);
+        }
+        return runContext;
+    }
+
+    @Override
+    public synchronized void addStories(RunContext context, List<Story> stories) {
+        List<Story> notAddedStories = new ArrayList<>();
+        for (Story story : stories) {
+            if (addedStories.add(story)) {
+                notAddedStories.add(story);
+            }
+        }
+        super.addStories(context, notAddedStories);
+    }
+
+    @Override
+    public synchronized Story storyOfPath(Configuration configuration, String storyPath) {
+        return storiesByPath.computeIfAbsent(storyPath, path -> super.storyOfPath(configuration, path));
+    }
+
+    @Override
+    public void perform(RunContext context, Story story) {
+        if (failFast != null && failFast.isReached() && !context.givenStory()) {
+            failFast.cancelled(story);
+            return;
+        }
+        if (memoizedGivenStories != null && !context.givenStory()) {
+            memoizedGivenStories.memoize(getRoot().get(story));
+        }
+        super.perform(context, story);
+    }
+}
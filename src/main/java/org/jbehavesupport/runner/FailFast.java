@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner;
+
+import static org.jbehavesupport.runner.JUnitRunnerFormatter.buildStoryText;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.model.StoryDuration;
+import org.jbehave.core.reporters.NullStoryReporter;
+import org.jbehave.core.reporters.StoryReporter;
+import org.jbehavesupport.runner.description.StoryDescriptionIndex;
+import org.junit.runner.Description;
+import org.junit.runner.notification.RunNotifier;
+
+/**
+ * Counts failures of steps, before and after stories included, and cancels stories which did not start yet once the
+ * threshold is reached. Cancelled stories are reported as ignored.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+@Slf4j
+class FailFast {
+
+    private final int threshold;
+    private final RunNotifier notifier;
+    private final StoryDescriptionIndex storyDescriptions;
+    private final AtomicInteger failures = new AtomicInteger();
+
+    FailFast(int threshold, RunNotifier notifier, StoryDescriptionIndex storyDescriptions) {
+        this.threshold = threshold;
+        this.notifier = notifier;
+        this.storyDescriptions = storyDescriptions;
+    }
+
+    boolean isReached() {
+        return failures.get() >= threshold;
+    }
+
+    /**
+     * Reports the story which is not run anymore.
+     */
+    void cancelled(Story story) {
+        log.info("Story {} is not run, {} failures reached the fail fast threshold", story.getPath(), failures.get());
+        for (Description description : storyDescriptions.getDescriptions(buildStoryText(story.getName()))) {
+            notifier.fireTestIgnored(description);
+        }
+    }
+
+    StoryReporter reporter() {
+        return new NullStoryReporter() {
+            @Override
+            public void failed(String step, Throwable cause) {
+                failures.incrementAndGet();
+            }
+
+            @Override
+            public void storyCancelled(Story story, StoryDuration storyDuration) {
+                failures.incrementAndGet();
+            }
+        };
+    }
+}
@@ -0,0 +1,335 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jbehave.core.annotations.ScenarioType;
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.embedder.EmbedderMonitor;
+import org.jbehave.core.model.GivenStories;
+import org.jbehave.core.model.GivenStory;
+import org.jbehave.core.model.OutcomesTable;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.model.StoryDuration;
+import org.jbehave.core.reporters.NullStoryReporter;
+import org.jbehave.core.reporters.StoryReporter;
+import org.jbehave.core.steps.BeforeOrAfterStep;
+import org.jbehave.core.steps.CandidateSteps;
+import org.jbehave.core.steps.DelegatingStepMonitor;
+import org.jbehave.core.steps.StepCandidate;
+import org.jbehave.core.steps.StepMonitor;
+
+/**
+ * Selects stories which changed since their last green run, kept in a manifest file with one
+ * {@code storyPath=fingerprint stepsType,...} line per story.
+ * <p>
+ * Fingerprint is a hash of the story text, texts of all given stories it depends on (transitively), their examples
+ * tables, which may be loaded from resources, names of all steps classes and bytecode of the steps classes the story
+ * used. Steps classes with before or after methods are used by every story. The used steps classes are recorded from
+ * the performed steps, so a change of a steps class runs only the stories which performed its steps, while adding or
+ * removing a steps class runs all of them. Only stories which finished without a failure are written to the manifest,
+ * so failed stories are run again.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+@Slf4j
+class IncrementalStories {
+
+    private final Configuration configuration;
+    private final Map<String, Class<?>> stepsTypes = new TreeMap<>();
+    private final Map<Method, Set<String>> stepsTypesOfMethods = new HashMap<>();
+    private final Set<String> lifecycleStepsTypes = new TreeSet<>();
+    private final Map<String, String> stepsTypeHashes = new ConcurrentHashMap<>();
+    private final Map<String, String> storyTexts = new HashMap<>();
+    private final Map<String, Story> stories = new HashMap<>();
+    private final Map<String, Set<String>> givenStoryPaths = new HashMap<>();
+    private final Map<String, String> storyHashes = new HashMap<>();
+    private final Map<String, String> greenStories = new ConcurrentHashMap<>();
+    private final RunningStories<RunningStory> runningStories = new RunningStories<>(RunningStory::new);
+
+    IncrementalStories(Configuration configuration, List<CandidateSteps> candidateSteps) {
+        this.configuration = configuration;
+        for (CandidateSteps candidateStep : candidateSteps) {
+            for (StepCandidate stepCandidate : candidateStep.listCandidates()) {
+                stepsTypesOfMethods.computeIfAbsent(stepCandidate.getMethod(), method -> new TreeSet<>())
+                    .add(addStepsType(stepCandidate.getStepsType()));
+            }
+            for (BeforeOrAfterStep step : beforeOrAfterSteps(candidateStep)) {
+                lifecycleStepsTypes.add(addStepsType(step.getMethod().getDeclaringClass()));
+            }
+        }
+    }
+
+    private String addStepsType(Class<?> stepsType) {
+        stepsTypes.put(stepsType.getName(), stepsType);
+        return stepsType.getName();
+    }
+
+    private static List<BeforeOrAfterStep> beforeOrAfterSteps(CandidateSteps candidateSteps) {
+        List<BeforeOrAfterStep> steps = new ArrayList<>(candidateSteps.listBeforeOrAfterStories());
+        steps.addAll(candidateSteps.listBeforeOrAfterStory(false));
+        steps.addAll(candidateSteps.listBeforeOrAfterStory(true));
+        for (ScenarioType scenarioType : ScenarioType.values()) {
+            steps.addAll(candidateSteps.listBeforeOrAfterScenario(scenarioType));
+        }
+        return steps;
+    }
+
+    /**
+     * Story paths whose fingerprint differs from the one in the manifest, in the original order.
+     */
+    List<String> select(List<String> storyPaths, Path manifest) throws IOException {
+        Map<String, String> stored = load(manifest);
+        List<String> result = new ArrayList<>();
+        for (String storyPath : storyPaths) {
+            String storyHash = storyHash(storyPath);
+            storyHashes.put(storyPath, storyHash);
+            String entry = stored.get(storyPath);
+            String fingerprint = entry == null ? null : fingerprint(storyHash, stepsTypesOf(entry));
+            if (fingerprint == null || !fingerprint.equals(fingerprintOf(entry))) {
+                result.add(storyPath);
+            }
+        }
+        log.info("{} of {} stories changed since their last green run", result.size(), storyPaths.size());
+        return result;
+    }
+
+    /**
+     * Hash of the story with its given stories, or null when the story or one of its given stories can not be loaded.
+     */
+    String storyHash(String storyPath) {
+        DescriptionCacheKey key = new DescriptionCacheKey().add(stepsTypes.keySet().toString());
+        try {
+            for (String path : dependencyClosure(storyPath)) {
+                key.add(path).add(storyText(path));
+                for (Scenario scenario : story(path).getScenarios()) {
+                    key.add(scenario.getExamplesTable().asString());
+                }
+            }
+        } catch (RuntimeException e) {
+            log.debug("Story {} is treated as changed", storyPath, e);
+            return null;
+        }
+        return key.hash();
+    }
+
+    /**
+     * Fingerprint of the story hash and the used steps classes, or null when a steps class is gone or its bytecode is
+     * not available.
+     */
+    String fingerprint(String storyHash, Collection<String> usedStepsTypes) {
+        if (storyHash == null) {
+            return null;
+        }
+        Set<String> types = new TreeSet<>(usedStepsTypes);
+        types.addAll(lifecycleStepsTypes);
+        DescriptionCacheKey key = new DescriptionCacheKey().add(storyHash);
+        for (String type : types) {
+            String stepsTypeHash = stepsTypeHash(type);
+            if (stepsTypeHash == null) {
+                return null;
+            }
+            key.add(type).add(stepsTypeHash);
+        }
+        return key.hash();
+    }
+
+    private String stepsTypeHash(String name) {
+        Class<?> stepsType = stepsTypes.get(name);
+        if (stepsType == null) {
+            return null;
+        }
+        return stepsTypeHashes.computeIfAbsent(name, key -> {
+            try {
+                return new DescriptionCacheKey().addStepsType(stepsType).hash();
+            } catch (IOException e) {
+                log.debug("Steps class {} can not be hashed, stories using it are run", name, e);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Story path and paths of all given stories it depends on, sorted.
+     */
+    private Set<String> dependencyClosure(String storyPath) {
+        Set<String> closure = new TreeSet<>();
+        List<String> pending = new ArrayList<>(Collections.singletonList(storyPath));
+        while (!pending.isEmpty()) {
+            String path = pending.remove(pending.size() - 1);
+            if (closure.add(path)) {
+                pending.addAll(givenStoryPaths(path));
+            }
+        }
+        return closure;
+    }
+
+    private Set<String> givenStoryPaths(String storyPath) {
+        return givenStoryPaths.computeIfAbsent(storyPath, path -> {
+            Story story = story(path);
+            Set<String> paths = new TreeSet<>();
+            addPaths(story.getGivenStories(), paths);
+            for (Scenario scenario : story.getScenarios()) {
+                addPaths(scenario.getGivenStories(), paths);
+            }
+            return paths;
+        });
+    }
+
+    private static void addPaths(GivenStories givenStories, Set<String> paths) {
+        for (GivenStory givenStory : givenStories.getStories()) {
+            paths.add(givenStory.getPath());
+        }
+    }
+
+    private Story story(String storyPath) {
+        return stories.computeIfAbsent(storyPath,
+            path -> configuration.storyParser().parseStory(storyText(path), path));
+    }
+
+    private String storyText(String storyPath) {
+        return storyTexts.computeIfAbsent(storyPath, path -> configuration.storyLoader().loadStoryAsText(path));
+    }
+
+    private static String fingerprintOf(String entry) {
+        int separator = entry.indexOf(' ');
+        return separator < 0 ? entry : entry.substring(0, separator);
+    }
+
+    private static List<String> stepsTypesOf(String entry) {
+        int separator = entry.indexOf(' ');
+        return separator < 0 ? Collections.emptyList() : Arrays.asList(entry.substring(separator + 1).split(","));
+    }
+
+    /**
+     * Manifest entries, empty when there is no file.
+     */
+    static Map<String, String> load(Path manifest) throws IOException {
+        Map<String, String> result = new TreeMap<>();
+        StoryPropertiesFile.read(manifest, false, result::put);
+        return result;
+    }
+
+    /**
+     * Merges fingerprints of green stories into the manifest, entries of other stories are kept.
+     */
+    void store(Path manifest) throws IOException {
+        Map<String, String> merged = load(manifest);
+        merged.putAll(greenStories);
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, String> entry : merged.entrySet()) {
+            lines.add(entry.getKey() + "=" + entry.getValue());
+        }
+        StoryPropertiesFile.write(manifest, lines);
+    }
+
+    EmbedderMonitor monitor(EmbedderMonitor delegate) {
+        return runningStories.monitor(delegate);
+    }
+
+    /**
+     * Records steps classes of the performed steps for the story which runs them, given stories included.
+     */
+    StepMonitor stepMonitor(StepMonitor delegate) {
+        return new DelegatingStepMonitor(delegate) {
+            @Override
+            public void beforePerforming(String step, boolean dryRun, Method method) {
+                super.beforePerforming(step, dryRun, method);
+                RunningStory story = runningStories.get();
+                Set<String> types = method == null ? null : stepsTypesOfMethods.get(method);
+                if (story != null && types != null) {
+                    story.stepsTypes.addAll(types);
+                }
+            }
+        };
+    }
+
+    /**
+     * Failures and pending steps of given stories fail the story which runs them.
+     */
+    StoryReporter reporter() {
+        return new NullStoryReporter() {
+            @Override
+            public void failed(String step, Throwable cause) {
+                markFailed();
+            }
+
+            @Override
+            public void failedOutcomes(String step, OutcomesTable table) {
+                markFailed();
+            }
+
+            @Override
+            public void pending(String step) {
+                markFailed();
+            }
+
+            @Override
+            public void storyCancelled(Story story, StoryDuration storyDuration) {
+                markFailed();
+            }
+
+            @Override
+            public void afterStory(boolean givenStory) {
+                RunningStory story = givenStory ? null : runningStories.finish();
+                if (story != null && !story.failed) {
+                    String fingerprint = fingerprint(storyHashes.get(story.path), story.stepsTypes);
+                    if (fingerprint != null) {
+                        greenStories.put(story.path, story.stepsTypes.isEmpty()
+                            ? fingerprint : fingerprint + " " + String.join(",", story.stepsTypes));
+                    }
+                }
+            }
+        };
+    }
+
+    private void markFailed() {
+        RunningStory story = runningStories.get();
+        if (story != null) {
+            story.failed = true;
+        }
+    }
+
+    private static final class RunningStory {
+        private final String path;
+        private final Set<String> stepsTypes = new TreeSet<>();
+        private boolean failed;
+
+        private RunningStory(String path) {
+            this.path = path;
+        }
+    }
+}
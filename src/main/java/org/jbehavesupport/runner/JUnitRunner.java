@@ -25,26 +25,44 @@ import org.jbehave.core.configuration.Configuration;
 import org.jbehave.core.embedder.Embedder;
 import org.jbehave.core.embedder.PerformableTree;
 import org.jbehave.core.failures.BatchFailures;
-import org.jbehave.core.junit.JUnitStory;
+import org.jbehave.core.model.Scenario;
 import org.jbehave.core.model.Story;
 import org.jbehave.core.reporters.StoryReporter;
 import org.jbehave.core.steps.CandidateSteps;
 import org.jbehave.core.steps.NullStepMonitor;
+import org.jbehavesupport.runner.description.AbstractDescriptionBuilder;
+import org.jbehavesupport.runner.description.DescriptionCache;
+import org.jbehavesupport.runner.description.LazyStoryDescriptions;
+import org.jbehavesupport.runner.description.ScenarioPlans;
+import org.jbehavesupport.runner.description.StepCandidateCache;
+import org.jbehavesupport.runner.description.StoryDescriptionIndex;
 import org.jbehavesupport.runner.description.StoryParser;
 import org.jbehavesupport.runner.description.StoryResult;
+import org.jbehavesupport.runner.metrics.HistogramRunnerMetrics;
+import org.jbehavesupport.runner.metrics.MetricsStepMonitor;
+import org.jbehavesupport.runner.metrics.MetricsStoryReporter;
+import org.jbehavesupport.runner.metrics.RunnerMetrics;
+import org.jbehavesupport.runner.reporter.AsyncReportLog;
+import org.jbehavesupport.runner.reporter.JUnitScenarioReporter;
 import org.jbehavesupport.runner.reporter.JUnitStepReporter;
 import org.jbehavesupport.runner.reporter.JUnitStoryReporter;
+import org.jbehavesupport.runner.reporter.LoggingReporter;
+import org.jbehavesupport.runner.reporter.SynchronizedRunNotifier;
 import org.junit.runner.Description;
 import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.BlockJUnit4ClassRunner;
 import org.junit.runners.model.InitializationError;
 import org.junit.runners.model.Statement;
 
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
 
 /**
  * @author Michal Bocek
@@ -60,9 +78,34 @@ public class JUnitRunner extends BlockJUnit4ClassRunner {
     private final List<CandidateSteps> candidateSteps;
     private final Embedder configuredEmbedder;
     private final String reportLevel;
+    private final RunMode runMode;
+    private DiscoveredPerformableTree performableTree;
+    private final StoryDescriptionIndex storyDescriptions;
+    private final ScenarioPlans scenarioPlans;
+    private final LazyStoryDescriptions lazyStories;
+    private final String storyTimingsFile;
+    private final String incrementalManifest;
+    private final IncrementalStories incrementalStories;
+    private final String storyFailuresFile;
+    private final RunnerMetrics metrics;
 
     public enum ReportLevel {
-        STEP, STORY
+        STEP, SCENARIO, STORY
+    }
+
+    /**
+     * EMBEDDER lets the embedder parse stories and create candidate steps again. PERFORMABLE_TREE runs stories
+     * with the performable tree and candidate steps created during discovery.
+     */
+    public enum RunMode {
+        EMBEDDER, PERFORMABLE_TREE
+    }
+
+    /**
+     * Stories which failed in the previous run are run FIRST, or ONLY they are run.
+     */
+    public enum FailedStories {
+        FIRST, ONLY
     }
 
     public JUnitRunner(Class<? extends ConfigurableEmbedder> testClass)
@@ -70,12 +113,39 @@ public class JUnitRunner extends BlockJUnit4ClassRunner {
         NoSuchMethodException {
 
         super(testClass);
+        metrics = createMetrics();
         reportLevel = System.getProperty("jbehave.report.level", ReportLevel.STEP.name());
+        runMode = RunMode.valueOf(System.getProperty("jbehave.run.mode", RunMode.EMBEDDER.name()));
+        long started = System.nanoTime();
         ConfigurableEmbedder configurableEmbedder = testClass.newInstance();
         configuredEmbedder = configurableEmbedder.configuredEmbedder();
-        storyPaths = getStoryPaths(configurableEmbedder);
+        useThreads(configuredEmbedder);
+        started = record("runner.configuredEmbedder", started);
+        List<String> shardPaths = StorySharding.fromSystemProperties().select(StoryPaths.of(configurableEmbedder));
+        started = record("runner.storyPaths", started);
         candidateSteps = getCandidateStepsWithNullStepMonitor(configuredEmbedder);
-        description = buildStoryDescription(testClass, configuredEmbedder.configuration());
+        // the steps factory may share the embedder configuration, so the metrics monitor goes on after its reset
+        useMetricsStepMonitor(configuredEmbedder.configuration());
+        started = record("runner.candidateSteps", started);
+        incrementalManifest = System.getProperty("jbehave.incremental.manifest");
+        incrementalStories = incrementalManifest == null
+            ? null : new IncrementalStories(configuredEmbedder.configuration(), candidateSteps);
+        useIncrementalStepMonitor(configuredEmbedder.configuration());
+        storyFailuresFile = System.getProperty("jbehave.story.failures");
+        storyPaths = selectFailedStories(selectChangedStories(shardPaths));
+        started = record("runner.selectStories", started);
+        StoryResult storyResult = buildStories(testClass, configuredEmbedder.configuration());
+        if (runMode != RunMode.PERFORMABLE_TREE) {
+            // the embedder parses stories again, so the discovery tree is not kept for the run
+            performableTree = null;
+        }
+        started = record("runner.buildStories", started);
+        description = buildStoryDescription(testClass, storyResult);
+        storyDescriptions = new StoryDescriptionIndex(description);
+        record("runner.storyDescriptions", started);
+        scenarioPlans = storyResult.getScenarioPlans();
+        lazyStories = storyResult.getLazyStories();
+        storyTimingsFile = System.getProperty("jbehave.story.timings");
     }
 
     @Override
@@ -83,27 +153,154 @@ public class JUnitRunner extends BlockJUnit4ClassRunner {
         return new Statement() {
             @Override
             public void evaluate() throws Throwable {
-                StoryReporter junitReporter = resolveReporter(reportLevel);
+                RunNotifier synchronizedNotifier = new SynchronizedRunNotifier(notifier);
+                LoggingReporter loggingReporter = resolveReporter(reportLevel, synchronizedNotifier);
+                loggingReporter.useVerbosity(LoggingReporter.Verbosity.valueOf(
+                    System.getProperty("jbehave.report.verbosity", LoggingReporter.Verbosity.FULL.name())));
+                AsyncReportLog asyncReportLog = useAsyncReportLog(loggingReporter);
+                StoryReporter junitReporter = metrics == null
+                    ? loggingReporter : new MetricsStoryReporter(loggingReporter, metrics);
+                StoryTimings storyTimings = storyTimingsFile == null ? null : new StoryTimings();
+                StoryFailures storyFailures = storyFailuresFile == null ? null : new StoryFailures();
+                int failFastThreshold = Integer.getInteger("jbehave.failfast.threshold", 0);
+                FailFast failFast = failFastThreshold <= 0
+                    ? null : new FailFast(failFastThreshold, synchronizedNotifier, storyDescriptions);
+                MemoizedGivenStories memoizedGivenStories = Boolean.getBoolean("jbehave.givenstories.memoize")
+                    ? new MemoizedGivenStories() : null;
 
                 configuredEmbedder.configuration()
                     .storyReporterBuilder()
                     .withReporters(junitReporter);
+                if (storyTimings != null) {
+                    configuredEmbedder.useEmbedderMonitor(storyTimings.monitor(configuredEmbedder.embedderMonitor()));
+                    configuredEmbedder.configuration()
+                        .storyReporterBuilder()
+                        .withReporters(storyTimings.reporter());
+                }
+                if (incrementalStories != null) {
+                    configuredEmbedder.useEmbedderMonitor(
+                        incrementalStories.monitor(configuredEmbedder.embedderMonitor()));
+                    configuredEmbedder.configuration()
+                        .storyReporterBuilder()
+                        .withReporters(incrementalStories.reporter());
+                }
+                if (failFast != null) {
+                    configuredEmbedder.configuration()
+                        .storyReporterBuilder()
+                        .withReporters(failFast.reporter());
+                }
+                if (storyFailures != null) {
+                    configuredEmbedder.useEmbedderMonitor(storyFailures.monitor(configuredEmbedder.embedderMonitor()));
+                    configuredEmbedder.configuration()
+                        .storyReporterBuilder()
+                        .withReporters(storyFailures.reporter());
+                }
 
                 try {
-                    configuredEmbedder.runStoriesAsPaths(storyPaths);
+                    runStories(failFast, memoizedGivenStories);
                 } catch (Throwable e) {
                     throw new RuntimeException(e);
                 } finally {
+                    if (asyncReportLog != null) {
+                        asyncReportLog.close();
+                    }
+                    long started = System.nanoTime();
                     configuredEmbedder.generateCrossReference();
+                    record("runner.generateCrossReference", started);
+                    storeTimings(storyTimings);
+                    storeIncrementalManifest();
+                    storeFailures(storyFailures);
+                    if (metrics != null) {
+                        metrics.runFinished();
+                    }
+                }
+            }
+
+            /**
+             * Log events of the reporter are written in the background when {@code jbehave.report.async} is true.
+             */
+            private AsyncReportLog useAsyncReportLog(LoggingReporter reporter) {
+                if (!Boolean.getBoolean("jbehave.report.async")
+                    || reporter.getVerbosity() == LoggingReporter.Verbosity.NONE) {
+                    return null;
+                }
+                AsyncReportLog asyncReportLog = new AsyncReportLog(reporter.getReportLog(),
+                    Integer.getInteger("jbehave.report.async.capacity", AsyncReportLog.DEFAULT_CAPACITY));
+                reporter.useReportLog(asyncReportLog);
+                return asyncReportLog;
+            }
+
+            private void storeTimings(StoryTimings storyTimings) {
+                if (storyTimings == null) {
+                    return;
+                }
+                try {
+                    storyTimings.store(Paths.get(storyTimingsFile));
+                } catch (IOException e) {
+                    log.warn("Story timings can not be stored to {}", storyTimingsFile, e);
+                }
+            }
+
+            private void storeFailures(StoryFailures storyFailures) {
+                if (storyFailures == null) {
+                    return;
                 }
+                try {
+                    storyFailures.store(Paths.get(storyFailuresFile));
+                } catch (IOException e) {
+                    log.warn("Story failures can not be stored to {}", storyFailuresFile, e);
+                }
+            }
+
+            private void storeIncrementalManifest() {
+                if (incrementalStories == null) {
+                    return;
+                }
+                try {
+                    incrementalStories.store(Paths.get(incrementalManifest));
+                } catch (IOException e) {
+                    log.warn("Incremental manifest can not be stored to {}", incrementalManifest, e);
+                }
+            }
+
+            /**
+             * Fail fast and memoized given stories need the performable tree of the runner, a new one is used when
+             * stories are run by the embedder.
+             */
+            private void runStories(FailFast failFast, MemoizedGivenStories memoizedGivenStories) {
+                switch (runMode) {
+                    case EMBEDDER:
+                        if (failFast != null || memoizedGivenStories != null) {
+                            configuredEmbedder.usePerformableTree(new DiscoveredPerformableTree()
+                                .useFailFast(failFast)
+                                .useMemoizedGivenStories(memoizedGivenStories));
+                        }
+                        break;
+                    case PERFORMABLE_TREE:
+                        configuredEmbedder.usePerformableTree(performableTree()
+                            .useFailFast(failFast)
+                            .useMemoizedGivenStories(memoizedGivenStories));
+                        configuredEmbedder.useStepsFactory(
+                            new DiscoveredStepsFactory(configuredEmbedder.stepsFactory(), candidateSteps));
+                        break;
+                    default:
+                        throw new IllegalStateException("Run mode does not exists: " + runMode);
+                }
+                long started = System.nanoTime();
+                configuredEmbedder.runStoriesAsPaths(storyPaths);
+                record("runner.runStoriesAsPaths", started);
             }
 
-            private StoryReporter resolveReporter(String reportLevel) {
+            private LoggingReporter resolveReporter(String reportLevel, RunNotifier synchronizedNotifier) {
                 switch (ReportLevel.valueOf(reportLevel)) {
                     case STEP:
-                        return new JUnitStepReporter(notifier, description, configuredEmbedder.configuration());
+                        return new JUnitStepReporter(synchronizedNotifier, storyDescriptions, scenarioPlans,
+                            lazyStories, configuredEmbedder.configuration());
+                    case SCENARIO:
+                        return new JUnitScenarioReporter(synchronizedNotifier, storyDescriptions);
                     case STORY:
-                        return new JUnitStoryReporter(notifier, description, configuredEmbedder.configuration());
+                        return new JUnitStoryReporter(synchronizedNotifier, storyDescriptions,
+                            configuredEmbedder.configuration());
                     default:
                         throw new IllegalStateException("Report level does not exists: " + reportLevel);
                 }
@@ -112,32 +309,102 @@ public class JUnitRunner extends BlockJUnit4ClassRunner {
     }
 
     private Description buildStoryDescription(Class<? extends ConfigurableEmbedder> testClass,
-                                              Configuration configuration) {
+                                              StoryResult storyResult) {
         Description description = Description.createSuiteDescription(testClass);
-        List<Description> descriptions = new ArrayList<>();
-
-        addStories(descriptions, configuration);
-
-        for (Description currentDescription : descriptions) {
+        for (Description currentDescription : storyResult.getStoryDescriptions()) {
             description.addChild(currentDescription);
         }
         return description;
     }
 
-    private void addStories(List<Description> descriptions, Configuration configuration) {
-        StoryResult storyResult = StoryParser.parse(createPerformableTree(), ReportLevel.valueOf(reportLevel))
+    private StoryResult buildStories(Class<?> testClass, Configuration configuration) {
+        if (Boolean.getBoolean("jbehave.description.lazy")) {
+            return buildStories(configuration, true);
+        }
+        String cacheDirectory = System.getProperty("jbehave.description.cache");
+        if (cacheDirectory == null) {
+            return buildStories(configuration, false);
+        }
+        DescriptionCache descriptionCache = new DescriptionCache(Paths.get(cacheDirectory));
+        String key;
+        try {
+            key = descriptionCacheKey(testClass, configuration);
+            StoryResult storyResult = descriptionCache.load(testClass.getName(), key);
+            if (storyResult != null) {
+                log.debug("Descriptions of {} loaded from cache", testClass.getName());
+                return storyResult;
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Descriptions of {} can not be loaded from cache", testClass.getName(), e);
+            return buildStories(configuration, false);
+        }
+        StoryResult storyResult = buildStories(configuration, false);
+        try {
+            descriptionCache.store(testClass.getName(), key, storyResult);
+        } catch (IOException e) {
+            log.warn("Descriptions of {} can not be stored to cache", testClass.getName(), e);
+        }
+        return storyResult;
+    }
+
+    /**
+     * Examples tables may be loaded from resources, so stories are parsed to add the loaded tables to the key.
+     */
+    private String descriptionCacheKey(Class<?> testClass, Configuration configuration) throws IOException {
+        DescriptionCacheKey key = new DescriptionCacheKey()
+            .add(JUnitRunner.class.getPackage().getImplementationVersion())
+            .add(testClass.getName())
+            .add(reportLevel)
+            .add(configuredEmbedder.metaFilter().asString())
+            .add(Arrays.toString(configuration.keywords().startingWords()))
+            .add(configuration.keywords().scenario())
+            .add(configuration.keywords().examplesTableRow());
+        for (String storyPath : storyPaths) {
+            String storyText = configuration.storyLoader().loadStoryAsText(storyPath);
+            key.add(storyPath).add(storyText);
+            for (Scenario scenario : configuration.storyParser().parseStory(storyText, storyPath).getScenarios()) {
+                key.add(scenario.getExamplesTable().asString());
+            }
+        }
+        return key.addStepsClasses(candidateSteps).hash();
+    }
+
+    /**
+     * Lazy descriptions list stories only, children of a story are built when the story starts.
+     */
+    private StoryResult buildStories(Configuration configuration, boolean lazy) {
+        AbstractDescriptionBuilder descriptionBuilder =
+            StoryParser.parse(performableTree(), ReportLevel.valueOf(reportLevel));
+        descriptionBuilder
             .withCandidateSteps(candidateSteps)
-            .withKeywords(configuration.keywords())
-            .buildDescription();
+            .withKeywords(configuration.keywords());
+        long started = System.nanoTime();
+        StoryResult storyResult = lazy
+            ? descriptionBuilder.buildLazyDescription() : descriptionBuilder.buildDescription();
+        record("runner.buildDescription", started);
+        StepCandidateCache stepCandidateCache = descriptionBuilder.getStepCandidateCache();
+        log.debug("Step candidate cache hits: {}, misses: {}", stepCandidateCache.getHits(),
+            stepCandidateCache.getMisses());
+        return storyResult;
+    }
 
-        descriptions.addAll(storyResult.getStoryDescriptions());
+    /**
+     * Performable tree is created only when it's needed, descriptions loaded from cache don't need it.
+     */
+    private DiscoveredPerformableTree performableTree() {
+        if (performableTree == null) {
+            long started = System.nanoTime();
+            performableTree = createPerformableTree();
+            record("runner.createPerformableTree", started);
+        }
+        return performableTree;
     }
 
-    private PerformableTree createPerformableTree() {
+    private DiscoveredPerformableTree createPerformableTree() {
         BatchFailures failures = new BatchFailures(configuredEmbedder.embedderControls().verboseFailures());
-        PerformableTree performableTree = new PerformableTree();
+        DiscoveredPerformableTree performableTree = new DiscoveredPerformableTree();
         PerformableTree.RunContext context = performableTree.newRunContext(configuredEmbedder.configuration(),
-            configuredEmbedder.stepsFactory().createCandidateSteps(),
+            candidateSteps,
             configuredEmbedder.embedderMonitor(),
             configuredEmbedder.metaFilter(), failures);
 
@@ -150,56 +417,106 @@ public class JUnitRunner extends BlockJUnit4ClassRunner {
         return performableTree;
     }
 
-    private List<CandidateSteps> getCandidateStepsWithNullStepMonitor(Embedder embedder) {
-        NullStepMonitor stepMonitor = new NullStepMonitor();
-        List<CandidateSteps> candidateSteps = embedder.stepsFactory().createCandidateSteps();
-        for (CandidateSteps candidateStep : candidateSteps) {
-            candidateStep.configuration().useStepMonitor(stepMonitor);
+    /**
+     * Only stories changed since their last green run are run when {@code jbehave.incremental.manifest} is set.
+     */
+    private List<String> selectChangedStories(List<String> storyPaths) {
+        if (incrementalStories == null) {
+            return storyPaths;
+        }
+        try {
+            return incrementalStories.select(storyPaths, Paths.get(incrementalManifest));
+        } catch (IOException e) {
+            log.warn("Incremental manifest can not be loaded from {}, all stories are run", incrementalManifest, e);
+            return storyPaths;
         }
-        return candidateSteps;
     }
 
-    @SuppressWarnings("unchecked")
-    private List<String> getStoryPaths(ConfigurableEmbedder configurableEmbedder)
-        throws InvocationTargetException, IllegalAccessException, NoSuchMethodException {
+    /**
+     * Stories which failed in the previous run are run first or only them when {@code jbehave.run.failed} is set,
+     * failures are kept in the file from {@code jbehave.story.failures}. All stories are run when there is no file
+     * yet.
+     */
+    private List<String> selectFailedStories(List<String> storyPaths) {
+        String failedStories = System.getProperty("jbehave.run.failed");
+        if (failedStories == null || storyFailuresFile == null) {
+            return storyPaths;
+        }
+        if (!Files.isRegularFile(Paths.get(storyFailuresFile))) {
+            log.warn("There are no story failures in {}, all stories are run", storyFailuresFile);
+            return storyPaths;
+        }
+        try {
+            Map<String, SortedSet<String>> failures = StoryFailures.load(Paths.get(storyFailuresFile));
+            log.info("Stories failed in the previous run: {}", failures);
+            return StoryFailures.select(storyPaths, failures.keySet(), FailedStories.valueOf(failedStories));
+        } catch (IOException e) {
+            log.warn("Story failures can not be loaded from {}, all stories are run", storyFailuresFile, e);
+            return storyPaths;
+        }
+    }
 
-        List<String> stories;
-        if (configurableEmbedder instanceof JUnitStory) {
-            Configuration configuration = configurableEmbedder.configuredEmbedder().configuration();
-            String story = configuration.storyPathResolver().resolve(configurableEmbedder.getClass());
-            stories = Collections.singletonList(story);
-        } else {
-            Method method = lookupStoryPathsMethod(configurableEmbedder.getClass());
-            method.setAccessible(true);
-            stories = ((List<String>) method.invoke(configurableEmbedder, (Object[]) null));
+    private void useThreads(Embedder embedder) {
+        String threads = System.getProperty("jbehave.threads");
+        if (threads != null) {
+            embedder.embedderControls().useThreads(Integer.parseInt(threads));
         }
+    }
 
-        return stories;
+    /**
+     * Steps are performed with the step monitor of the embedder configuration.
+     */
+    private void useMetricsStepMonitor(Configuration configuration) {
+        if (metrics != null) {
+            configuration.useStepMonitor(new MetricsStepMonitor(configuration.stepMonitor(), metrics));
+        }
     }
 
-    private Method lookupStoryPathsMethod(Class<? extends ConfigurableEmbedder> testClass)
-        throws NoSuchMethodException {
+    /**
+     * Steps classes used by stories are recorded from the performed steps, the same way as step metrics.
+     */
+    private void useIncrementalStepMonitor(Configuration configuration) {
+        if (incrementalStories != null) {
+            configuration.useStepMonitor(incrementalStories.stepMonitor(configuration.stepMonitor()));
+        }
+    }
 
-        Method method;
-        try {
-            method = storyPathsLookup(testClass);
-        } catch (NoSuchMethodException e) {
-            method = testClass.getMethod("storyPaths", (Class[]) null);
+    /**
+     * Records the duration since the start when metrics are on, returns the time of the end.
+     */
+    private long record(String name, long started) {
+        long ended = System.nanoTime();
+        if (metrics != null) {
+            metrics.record(name, ended - started);
         }
-        return method;
+        return ended;
     }
 
-    private Method storyPathsLookup(Class<?> clazz) throws NoSuchMethodException {
-        while (clazz != null) {
-            Method[] methods = clazz.getDeclaredMethods();
-            for (Method method : methods) {
-                // Test any other things about it beyond the name...
-                if (method.getName().equals("storyPaths")) {
-                    return method;
-                }
+    /**
+     * Metrics of the class from {@code jbehave.metrics.class}, or histograms summarized to the file from
+     * {@code jbehave.metrics.summary}. Metrics are off when neither is set.
+     */
+    private RunnerMetrics createMetrics()
+        throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
+
+        String metricsClass = System.getProperty("jbehave.metrics.class");
+        if (metricsClass != null) {
+            try {
+                return (RunnerMetrics) Class.forName(metricsClass).getConstructor().newInstance();
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("Metrics class does not exists: " + metricsClass, e);
             }
-            clazz = clazz.getSuperclass();
         }
-        throw new NoSuchMethodException("Can not find method: " + "storyPaths");
+        String summaryFile = System.getProperty("jbehave.metrics.summary");
+        return summaryFile == null ? null : new HistogramRunnerMetrics(Paths.get(summaryFile));
+    }
+
+    private List<CandidateSteps> getCandidateStepsWithNullStepMonitor(Embedder embedder) {
+        NullStepMonitor stepMonitor = new NullStepMonitor();
+        List<CandidateSteps> candidateSteps = embedder.stepsFactory().createCandidateSteps();
+        for (CandidateSteps candidateStep : candidateSteps) {
+            candidateStep.configuration().useStepMonitor(stepMonitor);
+        }
+        return candidateSteps;
     }
 }
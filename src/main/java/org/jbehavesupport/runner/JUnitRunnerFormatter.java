@@ -21,67 +21,127 @@ package org.jbehavesupport.runner;
 import org.jbehave.core.configuration.Keywords;
 
 /**
+ * Formats texts of descriptions. Texts are formatted by a single scan over the characters, texts which don't need
+ * any change are returned as they are.
+ *
  * @author Michal Bocek
  * @since 29/08/16
  */
 public class JUnitRunnerFormatter {
 
-    private static final String FORMAT_SIMPLE = "%s %s";
-    private static final String FORMAT_SEMICOLON = "%s: %s";
-    private static final String STORY = "Story";
+    private static final String STORY_PREFIX = "Story: ";
+    private static final String LINE_BREAK_REPLACEMENT = ", ";
+    private static final char PARENTHESIS_REPLACEMENT = '|';
 
     private JUnitRunnerFormatter() {
         throw new UnsupportedOperationException();
     }
 
     public static String buildStoryText(String text) {
-        return formatWithSemicolon(STORY, normalizeStoryName(text));
+        return STORY_PREFIX + cleanup(storyName(text), true);
     }
 
     public static String buildScenarioText(Keywords keywords, String text) {
-        return formatWithoutSemicolon(keywords.scenario(), cleanup(text));
+        return keywords.scenario() + " " + cleanup(text, true);
     }
 
     public static String buildExampleText(Keywords keywords, String text) {
-        return formatWithoutSemicolon(keywords.examplesTableRow(), cleanup(text));
+        return keywords.examplesTableRow() + " " + cleanup(text, true);
     }
 
     public static String normalizeStoryName(String storyName) {
-        String result;
-        if (storyName.contains(".")) {
-            result = storyName.substring(0, storyName.indexOf("."));
-        } else {
-            result = storyName;
-        }
-        return cleanup(result);
+        return cleanup(storyName(storyName), false);
     }
 
     public static String normalizeStep(String step) {
-        return cleanup(fistline(step));
+        return cleanup(fistline(step), false);
     }
 
+    /**
+     * Removes every text from an opening parenthesis to the last closing parenthesis on the same line.
+     */
     public static String removeClass(String text) {
-        return text.replaceAll("\\(.*\\)", "");
+        if (text.indexOf('(') < 0) {
+            return text;
+        }
+        StringBuilder result = new StringBuilder(text.length());
+        int copied = 0;
+        int index = 0;
+        while (index < text.length()) {
+            if (text.charAt(index) != '(') {
+                index++;
+                continue;
+            }
+            int lineEnd = lineEnd(text, index + 1);
+            int closing = text.lastIndexOf(')', lineEnd - 1);
+            if (closing > index) {
+                result.append(text, copied, index);
+                copied = closing + 1;
+                index = closing + 1;
+            } else {
+                // no other opening parenthesis on this line has a closing one
+                index = lineEnd;
+            }
+        }
+        return result.append(text, copied, text.length()).toString();
     }
 
-    private static String fistline(String text) {
-        int newLineIndex = text.indexOf("\n");
-        return text.substring(0, newLineIndex == -1 ? text.length() : newLineIndex - 1);
+    private static String storyName(String storyName) {
+        int dotIndex = storyName.indexOf('.');
+        return dotIndex == -1 ? storyName : storyName.substring(0, dotIndex);
     }
 
-    private static String formatWithoutSemicolon(String prefix, String text) {
-        return String.format(FORMAT_SIMPLE, prefix, stripDots(text));
+    private static String fistline(String text) {
+        int newLineIndex = text.indexOf('\n');
+        return text.substring(0, newLineIndex == -1 ? text.length() : newLineIndex - 1);
     }
 
-    private static String formatWithSemicolon(String prefix, String text) {
-        return String.format(FORMAT_SEMICOLON, prefix, stripDots(text));
+    /**
+     * Replaces line breaks by comma and parentheses by pipe, dots are removed when required.
+     */
+    private static String cleanup(String text, boolean stripDots) {
+        int index = 0;
+        while (index < text.length() && !needsCleanup(text.charAt(index), stripDots)) {
+            index++;
+        }
+        if (index == text.length()) {
+            return text;
+        }
+        StringBuilder result = new StringBuilder(text.length() + 8).append(text, 0, index);
+        boolean lineBreak = false;
+        for (; index < text.length(); index++) {
+            char c = text.charAt(index);
+            if (c == '\r' || c == '\n') {
+                if (!lineBreak) {
+                    result.append(LINE_BREAK_REPLACEMENT);
+                    lineBreak = true;
+                }
+                continue;
+            }
+            lineBreak = false;
+            if (c == '(' || c == ')') {
+                result.append(PARENTHESIS_REPLACEMENT);
+            } else if (c != '.' || !stripDots) {
+                result.append(c);
+            }
+        }
+        return result.toString();
     }
 
-    private static String stripDots(String text) {
-        return text.replaceAll("\\.", "");
+    private static boolean needsCleanup(char c, boolean stripDots) {
+        return c == '\r' || c == '\n' || c == '(' || c == ')' || (stripDots && c == '.');
     }
 
-    private static String cleanup(String text) {
-        return text.replaceAll("[\r\n]+", ", ").replaceAll("[()]", "|");
+    /**
+     * Index of the first line terminator, as understood by regex dot, from the given index.
+     */
+    private static int lineEnd(String text, int fromIndex) {
+        for (int index = fromIndex; index < text.length(); index++) {
+            char c = text.charAt(index);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return index;
+            }
+        }
+        return text.length();
     }
 }
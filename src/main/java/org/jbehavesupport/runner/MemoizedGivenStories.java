@@ -0,0 +1,231 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jbehave.core.embedder.PerformableTree.AbstractPerformableScenario;
+import org.jbehave.core.embedder.PerformableTree.FailureContext;
+import org.jbehave.core.embedder.PerformableTree.PerformableScenario;
+import org.jbehave.core.embedder.PerformableTree.PerformableStory;
+import org.jbehave.core.embedder.PerformableTree.RunContext;
+import org.jbehave.core.embedder.PerformableTree.Status;
+import org.jbehave.core.model.GivenStories;
+import org.jbehave.core.model.GivenStory;
+import org.jbehave.core.model.Meta;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.steps.Timing;
+
+/**
+ * Performs given stories marked by {@code @memoize} meta only once per run, or once per worker thread when the meta
+ * value is {@code thread}. Later inclusions are reported as successful given stories without performing their steps.
+ * Given stories are memoized by their path, only successful ones are memoized. Inclusions with parameters, an anchor,
+ * examples of the including scenario or parameters of an including given story are performed every time, as they
+ * may differ from other inclusions of the same path.
+ * <p>
+ * Performable tree keeps given stories in private lists, so they are replaced by memoized ones through reflection.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+@Slf4j
+class MemoizedGivenStories {
+
+    static final String MEMOIZE = "memoize";
+    static final String THREAD_SCOPE = "thread";
+
+    private static final Field STORY_GIVEN_STORIES = field(PerformableStory.class, "givenStories");
+    private static final Field SCENARIO_GIVEN_STORIES = field(AbstractPerformableScenario.class, "givenStories");
+    private static final Field NORMAL_SCENARIO = field(PerformableScenario.class, "normalScenario");
+
+    private final Set<PerformableStory> memoizedStories = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final ConcurrentMap<String, Object> locks = new ConcurrentHashMap<>();
+    private final Set<String> performed = ConcurrentHashMap.newKeySet();
+    private final ThreadLocal<Set<String>> performedByThread = ThreadLocal.withInitial(HashSet::new);
+
+    /**
+     * Replaces memoized given stories of the story, nested given stories included.
+     */
+    synchronized void memoize(PerformableStory story) {
+        memoize(story, false);
+    }
+
+    private void memoize(PerformableStory story, boolean parameterized) {
+        if (!memoizedStories.add(story)) {
+            return;
+        }
+        memoize(this.<PerformableStory>listOf(STORY_GIVEN_STORIES, story), story.getStory().getGivenStories(),
+            parameterized);
+        for (PerformableScenario scenario : story.getScenarios()) {
+            GivenStories givenStories = scenario.getScenario().getGivenStories();
+            AbstractPerformableScenario normalScenario = valueOf(NORMAL_SCENARIO, scenario);
+            if (normalScenario != null) {
+                memoize(this.<PerformableStory>listOf(SCENARIO_GIVEN_STORIES, normalScenario), givenStories,
+                    parameterized);
+            }
+            if (scenario.hasExamples()) {
+                // given stories of examples are performed with parameters of the example
+                for (AbstractPerformableScenario exampleScenario : scenario.getExamples()) {
+                    memoize(this.<PerformableStory>listOf(SCENARIO_GIVEN_STORIES, exampleScenario), givenStories,
+                        true);
+                }
+            }
+        }
+    }
+
+    /**
+     * Performable given stories are created in the order of the given stories they are included by.
+     */
+    private void memoize(List<PerformableStory> performableStories, GivenStories givenStories,
+                         boolean parameterized) {
+        List<GivenStory> inclusions = givenStories.getStories();
+        for (int i = 0; i < performableStories.size(); i++) {
+            PerformableStory givenStory = performableStories.get(i);
+            if (givenStory instanceof MemoizedStory) {
+                givenStory = ((MemoizedStory) givenStory).delegate;
+            }
+            boolean parameterizedInclusion = parameterized || inclusions.size() != performableStories.size()
+                || isParameterized(inclusions.get(i));
+            memoize(givenStory, parameterizedInclusion);
+            if (givenStory.getStory().getMeta().hasProperty(MEMOIZE)) {
+                if (parameterizedInclusion) {
+                    log.debug("Given story {} is included with parameters, it is not memoized",
+                        givenStory.getStory().getPath());
+                } else {
+                    performableStories.set(i, new MemoizedStory(givenStory));
+                }
+            }
+        }
+    }
+
+    private static boolean isParameterized(GivenStory inclusion) {
+        return inclusion.hasAnchor() || !inclusion.getParameters().isEmpty();
+    }
+
+    private void perform(PerformableStory givenStory, RunContext context) throws InterruptedException {
+        Meta meta = givenStory.getStory().getMeta();
+        String path = givenStory.getStory().getPath();
+        if (THREAD_SCOPE.equalsIgnoreCase(meta.getProperty(MEMOIZE).trim())) {
+            Set<String> performedInThread = performedByThread.get();
+            if (!performedInThread.contains(path)) {
+                performOnce(givenStory, context, performedInThread);
+                return;
+            }
+        } else if (!performed.contains(path)) {
+            synchronized (locks.computeIfAbsent(path, key -> new Object())) {
+                if (!performed.contains(path)) {
+                    performOnce(givenStory, context, performed);
+                    return;
+                }
+            }
+        }
+        log.debug("Given story {} is memoized", path);
+        context.reporter().beforeStory(givenStory.getStory(), true);
+        context.reporter().afterStory(true);
+    }
+
+    private static void performOnce(PerformableStory givenStory, RunContext context, Set<String> performed)
+        throws InterruptedException {
+        givenStory.perform(context);
+        if (givenStory.getStatus() == Status.SUCCESSFUL) {
+            performed.add(givenStory.getStory().getPath());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> listOf(Field field, Object target) {
+        List<T> list = valueOf(field, target);
+        return list == null ? Collections.emptyList() : list;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T valueOf(Field field, Object target) {
+        try {
+            return (T) field.get(target);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Can't read " + field.getName() + " of performable tree", e);
+        }
+    }
+
+    private static Field field(Class<?> type, String name) {
+        try {
+            Field field = type.getDeclaredField(name);
+            field.setAccessible(true);
+            return field;
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException("Performable tree of JBehave doesn't have " + name + " field", e);
+        }
+    }
+
+    /**
+     * Given story which is performed only when it was not performed successfully yet.
+     */
+    private class MemoizedStory extends PerformableStory {
+
+        private final PerformableStory delegate;
+
+        private MemoizedStory(PerformableStory delegate) {
+            super(delegate.getStory(), delegate.getKeywords(), delegate.givenStory());
+            this.delegate = delegate;
+            allowed(delegate.isAllowed());
+        }
+
+        @Override
+        public void perform(RunContext context) throws InterruptedException {
+            if (!delegate.isAllowed()) {
+                delegate.perform(context);
+                return;
+            }
+            MemoizedGivenStories.this.perform(delegate, context);
+        }
+
+        @Override
+        public void reportFailures(FailureContext context) {
+            delegate.reportFailures(context);
+        }
+
+        @Override
+        public Status getStatus() {
+            return delegate.getStatus();
+        }
+
+        @Override
+        public Timing getTiming() {
+            return delegate.getTiming();
+        }
+
+        @Override
+        public List<PerformableScenario> getScenarios() {
+            return delegate.getScenarios();
+        }
+
+        @Override
+        public boolean hasAllowedScenarios() {
+            return delegate.hasAllowedScenarios();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner;
+
+import java.util.function.Function;
+
+import org.jbehave.core.embedder.EmbedderMonitor;
+import org.jbehave.core.embedder.EmbedderMonitorDecorator;
+
+/**
+ * Story run by the current thread, from the moment the embedder starts running it. Reporter calls of the story
+ * happen on the same thread, so reporters can find the story they belong to.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+class RunningStories<T> {
+
+    private final ThreadLocal<T> runningStory = new ThreadLocal<>();
+    private final Function<String, T> storyFactory;
+
+    RunningStories(Function<String, T> storyFactory) {
+        this.storyFactory = storyFactory;
+    }
+
+    EmbedderMonitor monitor(EmbedderMonitor delegate) {
+        return new EmbedderMonitorDecorator(delegate) {
+            @Override
+            public void runningStory(String path) {
+                runningStory.set(storyFactory.apply(path));
+                super.runningStory(path);
+            }
+        };
+    }
+
+    /**
+     * Story run by the current thread, null when the embedder did not report it.
+     */
+    T get() {
+        return runningStory.get();
+    }
+
+    /**
+     * Story run by the current thread, which is not tracked anymore.
+     */
+    T finish() {
+        T story = runningStory.get();
+        runningStory.remove();
+        return story;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jbehave.core.embedder.EmbedderMonitor;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.model.StoryDuration;
+import org.jbehave.core.reporters.NullStoryReporter;
+import org.jbehave.core.reporters.StoryReporter;
+
+/**
+ * Failed stories and their failed scenarios, kept in a file with one {@code storyPath=scenarioTitle} line per failed
+ * scenario. Failure outside of scenarios is kept with an empty title.
+ * <p>
+ * Stories which were run replace their previous failures, failures of stories which were not run are kept.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+class StoryFailures {
+
+    private final Map<String, SortedSet<String>> failures = new ConcurrentHashMap<>();
+    private final Set<String> finishedStories = ConcurrentHashMap.newKeySet();
+    private final RunningStories<RunningStory> runningStories = new RunningStories<>(RunningStory::new);
+
+    /**
+     * Failed scenario titles by story path, empty when there is no file.
+     */
+    static Map<String, SortedSet<String>> load(Path file) throws IOException {
+        Map<String, SortedSet<String>> result = new TreeMap<>();
+        StoryPropertiesFile.read(file, true, (storyPath, scenarioTitle) ->
+            result.computeIfAbsent(storyPath, path -> new TreeSet<>()).add(scenarioTitle));
+        return result;
+    }
+
+    /**
+     * Story paths with the previously failed stories first, or only the failed stories, in the original order.
+     */
+    static List<String> select(List<String> storyPaths, Set<String> failedStories, JUnitRunner.FailedStories mode) {
+        List<String> failed = new ArrayList<>();
+        List<String> others = new ArrayList<>();
+        for (String storyPath : storyPaths) {
+            (failedStories.contains(storyPath) ? failed : others).add(storyPath);
+        }
+        if (mode == JUnitRunner.FailedStories.FIRST) {
+            failed.addAll(others);
+        }
+        return failed;
+    }
+
+    /**
+     * Merges failures of finished stories into the file.
+     */
+    void store(Path file) throws IOException {
+        Map<String, SortedSet<String>> merged = load(file);
+        merged.keySet().removeAll(finishedStories);
+        merged.putAll(failures);
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, SortedSet<String>> storyFailures : merged.entrySet()) {
+            for (String scenarioTitle : storyFailures.getValue()) {
+                lines.add(storyFailures.getKey() + "=" + scenarioTitle);
+            }
+        }
+        StoryPropertiesFile.write(file, lines);
+    }
+
+    Map<String, SortedSet<String>> getFailures() {
+        return failures;
+    }
+
+    EmbedderMonitor monitor(EmbedderMonitor delegate) {
+        return runningStories.monitor(delegate);
+    }
+
+    /**
+     * Failures of given stories are failures of the scenario, or the story, which runs them.
+     */
+    StoryReporter reporter() {
+        return new NullStoryReporter() {
+            @Override
+            public void beforeStory(Story story, boolean givenStory) {
+                RunningStory running = runningStories.get();
+                if (givenStory && running != null) {
+                    running.givenStories++;
+                }
+            }
+
+            @Override
+            public void beforeScenario(String scenarioTitle) {
+                RunningStory running = runningStories.get();
+                if (running != null && running.givenStories == 0) {
+                    running.scenarioTitle = scenarioTitle;
+                }
+            }
+
+            @Override
+            public void afterScenario() {
+                RunningStory running = runningStories.get();
+                if (running != null && running.givenStories == 0) {
+                    running.scenarioTitle = "";
+                }
+            }
+
+            @Override
+            public void failed(String step, Throwable cause) {
+                RunningStory running = runningStories.get();
+                if (running != null) {
+                    running.failedScenarios.add(running.scenarioTitle);
+                }
+            }
+
+            @Override
+            public void storyCancelled(Story story, StoryDuration storyDuration) {
+                RunningStory running = runningStories.get();
+                if (running != null) {
+                    running.failedScenarios.add("");
+                }
+            }
+
+            @Override
+            public void afterStory(boolean givenStory) {
+                RunningStory running = runningStories.get();
+                if (running == null) {
+                    return;
+                }
+                if (givenStory) {
+                    running.givenStories--;
+                    return;
+                }
+                runningStories.finish();
+                finishedStories.add(running.path);
+                if (!running.failedScenarios.isEmpty()) {
+                    failures.put(running.path, running.failedScenarios);
+                }
+            }
+        };
+    }
+
+    private static final class RunningStory {
+        private final String path;
+        private final SortedSet<String> failedScenarios = new TreeSet<>();
+        private String scenarioTitle = "";
+        private int givenStories;
+
+        private RunningStory(String path) {
+            this.path = path;
+        }
+    }
+}
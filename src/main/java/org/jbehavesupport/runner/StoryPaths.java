@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+
+import org.jbehave.core.ConfigurableEmbedder;
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.junit.JUnitStory;
+
+/**
+ * Story paths of an embedder, the resolved path of a {@link JUnitStory} or the paths returned by its
+ * {@code storyPaths} method.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+public class StoryPaths {
+
+    private StoryPaths() {
+        throw new UnsupportedOperationException();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static List<String> of(ConfigurableEmbedder configurableEmbedder)
+        throws InvocationTargetException, IllegalAccessException, NoSuchMethodException {
+
+        List<String> stories;
+        if (configurableEmbedder instanceof JUnitStory) {
+            Configuration configuration = configurableEmbedder.configuredEmbedder().configuration();
+            String story = configuration.storyPathResolver().resolve(configurableEmbedder.getClass());
+            stories = Collections.singletonList(story);
+        } else {
+            Method method = lookupStoryPathsMethod(configurableEmbedder.getClass());
+            method.setAccessible(true);
+            stories = ((List<String>) method.invoke(configurableEmbedder, (Object[]) null));
+        }
+
+        return stories;
+    }
+
+    private static Method lookupStoryPathsMethod(Class<? extends ConfigurableEmbedder> testClass)
+        throws NoSuchMethodException {
+
+        Method method;
+        try {
+            method = storyPathsLookup(testClass);
+        } catch (NoSuchMethodException e) {
+            method = testClass.getMethod("storyPaths", (Class[]) null);
+        }
+        return method;
+    }
+
+    private static Method storyPathsLookup(Class<?> clazz) throws NoSuchMethodException {
+        while (clazz != null) {
+            Method[] methods = clazz.getDeclaredMethods();
+            for (Method method : methods) {
+                // Test any other things about it beyond the name...
+                if (method.getName().equals("storyPaths")) {
+                    return method;
+                }
+            }
+            clazz = clazz.getSuperclass();
+        }
+        throw new NoSuchMethodException("Can not find method: " + "storyPaths");
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.function.BiConsumer;
+
+/**
+ * Files with one {@code storyPath=value} line per entry, shared by runs of shards. Lines starting with {@code #} are
+ * comments.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+final class StoryPropertiesFile {
+
+    private StoryPropertiesFile() {
+    }
+
+    /**
+     * Reads entries of the file, nothing when there is no file. Lines are split at the last {@code =}, or at the
+     * first one when values may contain it.
+     */
+    static void read(Path file, boolean valuesWithSeparator, BiConsumer<String, String> entries) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return;
+        }
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            int separator = valuesWithSeparator ? line.indexOf('=') : line.lastIndexOf('=');
+            if (line.startsWith("#") || separator < 0) {
+                continue;
+            }
+            entries.accept(line.substring(0, separator).trim(), line.substring(separator + 1).trim());
+        }
+    }
+
+    /**
+     * Replaces the file at once, so shards sharing the file don't read a partially written one.
+     */
+    static void write(Path file, Collection<String> lines) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+                for (String line : lines) {
+                    writer.write(line);
+                    writer.newLine();
+                }
+            }
+            move(temporaryFile, file);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
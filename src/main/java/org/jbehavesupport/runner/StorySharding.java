@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Selects stories of one shard, so stories can be split among JVMs or CI nodes. Every shard selects the same stories
+ * on every node. Given stories are not in story paths, they are run with their parent stories.
+ * <p>
+ * HASH assigns a story by a stable hash of its path. BALANCED assigns stories by their recorded durations, longest
+ * story first to the least loaded shard, so shards take about the same time. Stories without a recorded duration
+ * are expected to take the mean of the recorded ones.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+class StorySharding {
+
+    enum Strategy {
+        HASH, BALANCED
+    }
+
+    private final int index;
+    private final int count;
+    private final Map<String, Long> durations;
+
+    StorySharding(int index, int count) {
+        this(index, count, null);
+    }
+
+    /**
+     * Balanced sharding by the durations, or hash sharding when durations are null.
+     */
+    StorySharding(int index, int count, Map<String, Long> durations) {
+        if (count < 1 || index < 0 || index >= count) {
+            throw new IllegalArgumentException("Shard index " + index + " is not in range of " + count + " shards");
+        }
+        this.index = index;
+        this.count = count;
+        this.durations = durations;
+    }
+
+    /**
+     * Sharding from {@code jbehave.shard.index}, {@code jbehave.shard.count} and {@code jbehave.shard.strategy},
+     * one shard with all stories by default. Balanced sharding reads durations from {@code jbehave.story.timings}.
+     */
+    static StorySharding fromSystemProperties() {
+        int index = Integer.parseInt(System.getProperty("jbehave.shard.index", "0"));
+        int count = Integer.parseInt(System.getProperty("jbehave.shard.count", "1"));
+        Strategy strategy = Strategy.valueOf(System.getProperty("jbehave.shard.strategy", Strategy.HASH.name()));
+        if (strategy == Strategy.HASH) {
+            return new StorySharding(index, count);
+        }
+        String timings = System.getProperty("jbehave.story.timings");
+        try {
+            return new StorySharding(index, count,
+                timings == null ? Collections.emptyMap() : StoryTimings.load(Paths.get(timings)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Story timings can not be read from " + timings, e);
+        }
+    }
+
+    List<String> select(List<String> storyPaths) {
+        if (count == 1) {
+            return storyPaths;
+        }
+        Set<String> selected = durations == null ? null : balancedShard(storyPaths);
+        List<String> result = new ArrayList<>();
+        for (String storyPath : storyPaths) {
+            boolean inShard = selected == null
+                ? Math.floorMod(storyPath.hashCode(), count) == index
+                : selected.contains(storyPath);
+            if (inShard) {
+                result.add(storyPath);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Longest processing time first: stories sorted by duration descending (and by path, so the order is the same
+     * on every node) are assigned one by one to the shard with the least total duration.
+     */
+    private Set<String> balancedShard(List<String> storyPaths) {
+        long defaultDuration = meanDuration(storyPaths);
+        List<String> sorted = new ArrayList<>(storyPaths);
+        sorted.sort((left, right) -> {
+            int byDuration = Long.compare(durations.getOrDefault(right, defaultDuration),
+                durations.getOrDefault(left, defaultDuration));
+            return byDuration != 0 ? byDuration : left.compareTo(right);
+        });
+        long[] loads = new long[count];
+        Set<String> result = new HashSet<>();
+        for (String storyPath : sorted) {
+            int leastLoaded = 0;
+            for (int shard = 1; shard < count; shard++) {
+                if (loads[shard] < loads[leastLoaded]) {
+                    leastLoaded = shard;
+                }
+            }
+            loads[leastLoaded] += durations.getOrDefault(storyPath, defaultDuration);
+            if (leastLoaded == index) {
+                result.add(storyPath);
+            }
+        }
+        return result;
+    }
+
+    private long meanDuration(List<String> storyPaths) {
+        long total = 0;
+        int known = 0;
+        for (String storyPath : storyPaths) {
+            Long duration = durations.get(storyPath);
+            if (duration != null) {
+                total += duration;
+                known++;
+            }
+        }
+        return known == 0 ? 1 : Math.max(1, total / known);
+    }
+}
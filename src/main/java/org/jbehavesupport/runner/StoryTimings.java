@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.jbehave.core.embedder.EmbedderMonitor;
+import org.jbehave.core.reporters.NullStoryReporter;
+import org.jbehave.core.reporters.StoryReporter;
+
+/**
+ * Wall time of stories in milliseconds, kept in a file with one {@code storyPath=millis} line per story.
+ * <p>
+ * Story is timed from the moment the embedder starts running it until the reporter gets the end of the story, both
+ * happen on the thread running the story. Reporter calls of parallel stories are delayed until the story ends, so
+ * the start is taken from the embedder monitor rather than from {@code beforeStory}.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+class StoryTimings {
+
+    private final Map<String, Long> durations = new ConcurrentHashMap<>();
+    private final RunningStories<RunningStory> runningStories =
+        new RunningStories<>(path -> new RunningStory(path, System.nanoTime()));
+
+    /**
+     * Durations stored in the file, empty when there is no file.
+     */
+    static Map<String, Long> load(Path file) throws IOException {
+        Map<String, Long> result = new TreeMap<>();
+        StoryPropertiesFile.read(file, false, (path, millis) -> result.put(path, Long.parseLong(millis)));
+        return result;
+    }
+
+    /**
+     * Merges recorded durations into the file, durations of stories which were not run are kept.
+     */
+    void store(Path file) throws IOException {
+        Map<String, Long> merged = load(file);
+        merged.putAll(durations);
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, Long> duration : merged.entrySet()) {
+            lines.add(duration.getKey() + "=" + duration.getValue());
+        }
+        StoryPropertiesFile.write(file, lines);
+    }
+
+    Map<String, Long> getDurations() {
+        return durations;
+    }
+
+    EmbedderMonitor monitor(EmbedderMonitor delegate) {
+        return runningStories.monitor(delegate);
+    }
+
+    StoryReporter reporter() {
+        return new NullStoryReporter() {
+            @Override
+            public void afterStory(boolean givenStory) {
+                RunningStory story = givenStory ? null : runningStories.finish();
+                if (story != null) {
+                    durations.put(story.path, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - story.started));
+                }
+            }
+        };
+    }
+
+    private static final class RunningStory {
+        private final String path;
+        private final long started;
+
+        private RunningStory(String path, long started) {
+            this.path = path;
+            this.started = started;
+        }
+    }
+}
@@ -22,8 +22,8 @@ package org.jbehavesupport.runner.description;
 import java.util.ArrayList;
 import java.util.List;
 
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.jbehave.core.configuration.Keywords;
 import org.jbehave.core.embedder.PerformableTree;
 import org.jbehave.core.steps.CandidateSteps;
@@ -34,7 +34,6 @@ import org.junit.runner.Description;
  * @author Michal Bocek
  * @since 4/23/2017
  */
-@RequiredArgsConstructor
 public abstract class AbstractDescriptionBuilder implements DescriptionBuilder {
 
     public static final String STORIES_BEFORE = "BeforeStories";
@@ -43,16 +42,28 @@ public abstract class AbstractDescriptionBuilder implements DescriptionBuilder {
     @Getter
     private final List<StepCandidate> stepCandidates = new ArrayList<>();
 
+    @Getter(AccessLevel.PACKAGE)
+    private final StepCandidateIndex stepCandidateIndex = new StepCandidateIndex();
+
+    @Getter
+    private final StepCandidateCache stepCandidateCache = new StepCandidateCache();
+
     @Getter
     private Keywords keywords = new Keywords();
 
     @Getter
-    private final PerformableTree story;
+    private PerformableTree story;
+
+    public AbstractDescriptionBuilder(PerformableTree story) {
+        this.story = story;
+    }
 
     @Override
     public DescriptionBuilder withCandidateSteps(List<CandidateSteps> candidateSteps) {
         for (CandidateSteps candidateStep : candidateSteps) {
-            stepCandidates.addAll(candidateStep.listCandidates());
+            List<StepCandidate> candidates = candidateStep.listCandidates();
+            stepCandidates.addAll(candidates);
+            stepCandidateIndex.addAll(candidateStep.configuration(), candidates);
         }
         return this;
     }
@@ -63,6 +74,22 @@ public abstract class AbstractDescriptionBuilder implements DescriptionBuilder {
         return this;
     }
 
+    /**
+     * Descriptions of stories without children, which are built just before a story runs. Builders which can't
+     * build them later build all descriptions.
+     */
+    public StoryResult buildLazyDescription() {
+        return buildDescription();
+    }
+
+    /**
+     * Lazy descriptions keep the builder until stories are expanded, the performable tree is released so only
+     * stories which were not expanded yet are kept.
+     */
+    void releaseStory() {
+        story = null;
+    }
+
     protected abstract Description createStoryDescription(PerformableTree.PerformableStory performableStory);
 }
 
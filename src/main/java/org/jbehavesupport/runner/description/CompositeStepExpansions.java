@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.jbehavesupport.runner.description;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import lombok.Getter;
+import org.jbehave.core.steps.StepCandidate;
+
+/**
+ * Expansions of composite steps keyed by the composite step candidate and previous non-And step. Composed steps are
+ * matched to candidates for the first occurrence of a composite step only, drafts of later occurrences are stamped
+ * out of the expansion. Expansions can be shared by threads.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+class CompositeStepExpansions {
+
+    private final ConcurrentMap<Key, Expansion> expansions = new ConcurrentHashMap<>();
+
+    /**
+     * Expansion is resolved outside of the map, so expansions of nested composite steps can be resolved by the
+     * resolver. Concurrent resolvers of the same key produce the same expansion, the first one is kept.
+     */
+    Expansion resolve(StepCandidate compositeStep, String previousNonAndStep, Supplier<Expansion> resolver) {
+        Key key = new Key(compositeStep, previousNonAndStep);
+        Expansion expansion = expansions.get(key);
+        if (expansion == null) {
+            expansion = resolver.get();
+            Expansion resolved = expansions.putIfAbsent(key, expansion);
+            if (resolved != null) {
+                expansion = resolved;
+            }
+        }
+        return expansion;
+    }
+
+    int size() {
+        return expansions.size();
+    }
+
+    /**
+     * Composed steps of a composite step together with the previous non-And step after the last of them.
+     */
+    static final class Expansion {
+
+        private final List<Step> steps;
+
+        @Getter
+        private final String previousNonAndStep;
+
+        Expansion(List<Step> steps, String previousNonAndStep) {
+            this.steps = Collections.unmodifiableList(steps);
+            this.previousNonAndStep = previousNonAndStep;
+        }
+
+        void addDrafts(DescriptionDraft draft) {
+            for (Step step : steps) {
+                draft.addChild(step.toDraft());
+            }
+        }
+    }
+
+    /**
+     * Composed step, either a test or a nested composite step with its own expansion.
+     */
+    static final class Step {
+
+        private final Class<?> testClass;
+        private final String name;
+        private final Expansion expansion;
+
+        private Step(Class<?> testClass, String name, Expansion expansion) {
+            this.testClass = testClass;
+            this.name = name;
+            this.expansion = expansion;
+        }
+
+        static Step test(Class<?> testClass, String name) {
+            return new Step(testClass, name, null);
+        }
+
+        static Step composite(String name, Expansion expansion) {
+            return new Step(null, name, expansion);
+        }
+
+        private DescriptionDraft toDraft() {
+            if (expansion == null) {
+                return DescriptionDraft.uniqueTest(testClass, name);
+            }
+            DescriptionDraft draft = DescriptionDraft.uniqueSuite(name);
+            expansion.addDrafts(draft);
+            return draft;
+        }
+    }
+
+    /**
+     * Step candidates don't override equals, so they are compared by identity.
+     */
+    private static final class Key {
+        private final StepCandidate compositeStep;
+        private final String previousNonAndStep;
+
+        private Key(StepCandidate compositeStep, String previousNonAndStep) {
+            this.compositeStep = compositeStep;
+            this.previousNonAndStep = previousNonAndStep;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return compositeStep == key.compositeStep && Objects.equals(previousNonAndStep, key.previousNonAndStep);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(compositeStep) + Objects.hashCode(previousNonAndStep);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner.description;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Persistent cache of built descriptions, one file per test class. The file keeps the key it was stored with, which
+ * is a hash of everything descriptions are built from, and is used only while the key is the same.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+public class DescriptionCache {
+
+    private static final int MAGIC = 0x4A42_4443;
+    private static final int VERSION = 1;
+
+    private final Path directory;
+
+    public DescriptionCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Cached result stored with the key, or null when there is none.
+     */
+    public StoryResult load(String name, String key) throws IOException {
+        Path file = file(name);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (input.readInt() != MAGIC || input.readInt() != VERSION || !input.readUTF().equals(key)) {
+                return null;
+            }
+            int size = input.readInt();
+            List<DescriptionDraft> drafts = new ArrayList<>(size);
+            for (int index = 0; index < size; index++) {
+                drafts.add(DescriptionDraft.readFrom(input));
+            }
+            return StoryResult.of(drafts);
+        }
+    }
+
+    /**
+     * Stores the result when it was built from drafts. File is replaced at once, so concurrent builds don't read
+     * a partially written file.
+     */
+    public void store(String name, String key, StoryResult storyResult) throws IOException {
+        List<DescriptionDraft> drafts = storyResult.getDrafts();
+        if (drafts == null) {
+            return;
+        }
+        Files.createDirectories(directory);
+        Path temporaryFile = Files.createTempFile(directory, name, ".tmp");
+        try {
+            try (DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                output.writeUTF(key);
+                output.writeInt(drafts.size());
+                for (DescriptionDraft draft : drafts) {
+                    draft.writeTo(output);
+                }
+            }
+            move(temporaryFile, file(name));
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    private Path file(String name) {
+        return directory.resolve(name + ".cache");
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
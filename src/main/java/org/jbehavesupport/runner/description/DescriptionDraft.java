@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.jbehavesupport.runner.description;
+
+import static org.junit.runner.Description.createSuiteDescription;
+import static org.junit.runner.Description.createTestDescription;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.runner.Description;
+
+/**
+ * Description which is not made unique yet. Drafts can be built for stories independently, unique names are given
+ * when the drafts are resolved in the order of stories, which is the same order as the sequential build uses.
+ * Resolved drafts are turned to descriptions and flat plans of steps and examples are made for scenarios at the same
+ * time. Resolved drafts can be written to and read from the description cache.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+class DescriptionDraft {
+
+    private enum Kind {
+        SCENARIO, EXAMPLE, OTHER
+    }
+
+    private static final Kind[] KINDS = Kind.values();
+
+    private final Kind kind;
+    private final Class<?> testClass;
+    private final String testClassName;
+    private final String name;
+    private final boolean unique;
+    private final List<DescriptionDraft> children = new ArrayList<>();
+
+    private DescriptionDraft(Kind kind, Class<?> testClass, String testClassName, String name, boolean unique) {
+        this.kind = kind;
+        this.testClass = testClass;
+        this.testClassName = testClassName;
+        this.name = name;
+        this.unique = unique;
+    }
+
+    static DescriptionDraft scenario(String name) {
+        return new DescriptionDraft(Kind.SCENARIO, null, null, name, false);
+    }
+
+    static DescriptionDraft example(String name) {
+        return new DescriptionDraft(Kind.EXAMPLE, null, null, name, true);
+    }
+
+    static DescriptionDraft suite(String name) {
+        return new DescriptionDraft(Kind.OTHER, null, null, name, false);
+    }
+
+    static DescriptionDraft uniqueSuite(String name) {
+        return new DescriptionDraft(Kind.OTHER, null, null, name, true);
+    }
+
+    static DescriptionDraft uniqueTest(Class<?> testClass, String name) {
+        return new DescriptionDraft(Kind.OTHER, testClass, testClass.getName(), name, true);
+    }
+
+    static DescriptionDraft test(Class<?> testClass, String name) {
+        return new DescriptionDraft(Kind.OTHER, testClass, testClass.getName(), name, false);
+    }
+
+    void addChild(DescriptionDraft child) {
+        children.add(child);
+    }
+
+    DescriptionDraft resolve(UniqueDescriptionGenerator descriptions) {
+        return resolveChildren(unique ? descriptions.getUnique(name) : name, descriptions);
+    }
+
+    /**
+     * Resolves children of the draft whose own name was already resolved.
+     */
+    DescriptionDraft resolveChildren(String resolvedName, UniqueDescriptionGenerator descriptions) {
+        DescriptionDraft resolved = new DescriptionDraft(kind, testClass, testClassName, resolvedName, false);
+        for (DescriptionDraft child : children) {
+            resolved.addChild(child.resolve(descriptions));
+        }
+        return resolved;
+    }
+
+    /**
+     * Description of a resolved draft. Drafts read from the cache have only the name of their test class.
+     */
+    Description toDescription(ScenarioPlans scenarioPlans) {
+        if (testClass != null) {
+            return createTestDescription(testClass, name);
+        }
+        if (testClassName != null) {
+            return createTestDescription(testClassName, name);
+        }
+        Description description = createSuiteDescription(name);
+        List<Description> childDescriptions = new ArrayList<>(children.size());
+        for (DescriptionDraft child : children) {
+            Description childDescription = child.toDescription(scenarioPlans);
+            childDescriptions.add(childDescription);
+            description.addChild(childDescription);
+        }
+        if (kind == Kind.SCENARIO) {
+            scenarioPlans.add(description, scenarioPlan(childDescriptions));
+        }
+        return description;
+    }
+
+    private ScenarioPlan scenarioPlan(List<Description> childDescriptions) {
+        List<Description> steps = new ArrayList<>();
+        List<Description> examples = new ArrayList<>();
+        for (int index = 0; index < children.size(); index++) {
+            DescriptionDraft child = children.get(index);
+            if (child.kind == Kind.EXAMPLE) {
+                examples.add(childDescriptions.get(index));
+            }
+            child.addSteps(childDescriptions.get(index), steps::add);
+        }
+        return new ScenarioPlan(steps.toArray(new Description[0]), examples.toArray(new Description[0]));
+    }
+
+    /**
+     * Adds steps in the order they are performed, examples are not steps but their children are.
+     */
+    private void addSteps(Description description, Consumer<Description> steps) {
+        if (kind != Kind.EXAMPLE) {
+            steps.accept(description);
+        }
+        List<Description> childDescriptions = description.getChildren();
+        for (int index = 0; index < children.size(); index++) {
+            children.get(index).addSteps(childDescriptions.get(index), steps);
+        }
+    }
+
+    void writeTo(DataOutput output) throws IOException {
+        output.writeByte(kind.ordinal());
+        writeString(output, testClassName);
+        writeString(output, name);
+        output.writeInt(children.size());
+        for (DescriptionDraft child : children) {
+            child.writeTo(output);
+        }
+    }
+
+    static DescriptionDraft readFrom(DataInput input) throws IOException {
+        Kind kind = KINDS[input.readByte()];
+        String testClassName = readString(input);
+        DescriptionDraft draft = new DescriptionDraft(kind, null, testClassName, readString(input), false);
+        int size = input.readInt();
+        for (int index = 0; index < size; index++) {
+            draft.addChild(readFrom(input));
+        }
+        return draft;
+    }
+
+    private static void writeString(DataOutput output, String value) throws IOException {
+        if (value == null) {
+            output.writeInt(-1);
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        }
+    }
+
+    private static String readString(DataInput input) throws IOException {
+        int length = input.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
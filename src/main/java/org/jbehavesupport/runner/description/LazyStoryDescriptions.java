@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner.description;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.jbehave.core.embedder.PerformableTree;
+import org.junit.runner.Description;
+
+/**
+ * Stories whose descriptions are listed without children. Children of a story are built just before the story runs,
+ * on a copy of the listed description which is equal to it, so the copy can be released once the story finishes.
+ * Performable story is released once it is expanded, so a story is expanded only once. Unique names of children are
+ * given in the order stories are expanded.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+public class LazyStoryDescriptions {
+
+    private final Map<Description, PerformableTree.PerformableStory> stories =
+        Collections.synchronizedMap(new IdentityHashMap<>());
+    private final Function<PerformableTree.PerformableStory, DescriptionDraft> storyDrafts;
+    private final UniqueDescriptionGenerator descriptions;
+
+    LazyStoryDescriptions(Function<PerformableTree.PerformableStory, DescriptionDraft> storyDrafts,
+                          UniqueDescriptionGenerator descriptions) {
+        this.storyDrafts = storyDrafts;
+        this.descriptions = descriptions;
+    }
+
+    void add(Description storyDescription, PerformableTree.PerformableStory performableStory) {
+        stories.put(storyDescription, performableStory);
+    }
+
+    public boolean isLazy(Description storyDescription) {
+        return stories.containsKey(storyDescription);
+    }
+
+    /**
+     * Copy of the listed story description with all its children, plans of its scenarios are added to the plans.
+     */
+    public Description expand(Description storyDescription, ScenarioPlans scenarioPlans) {
+        PerformableTree.PerformableStory performableStory = stories.remove(storyDescription);
+        if (performableStory == null) {
+            return storyDescription;
+        }
+        DescriptionDraft draft = storyDrafts.apply(performableStory);
+        DescriptionDraft resolved;
+        synchronized (descriptions) {
+            resolved = draft.resolveChildren(storyDescription.getDisplayName(), descriptions);
+        }
+        return resolved.toDescription(scenarioPlans);
+    }
+}
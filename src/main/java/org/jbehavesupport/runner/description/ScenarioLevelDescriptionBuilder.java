@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner.description;
+
+import static org.jbehavesupport.runner.JUnitRunnerFormatter.buildExampleText;
+import static org.jbehavesupport.runner.JUnitRunnerFormatter.buildScenarioText;
+import static org.jbehavesupport.runner.JUnitRunnerFormatter.buildStoryText;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jbehave.core.embedder.PerformableTree;
+import org.jbehave.core.model.ExamplesTable;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+import org.junit.runner.Description;
+
+/**
+ * Builds descriptions where scenarios are the tests, or their example rows when scenarios have examples. Steps and
+ * given stories are reported as part of their scenario.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+class ScenarioLevelDescriptionBuilder extends AbstractDescriptionBuilder {
+
+    private final UniqueDescriptionGenerator descriptions = new UniqueDescriptionGenerator();
+
+    public ScenarioLevelDescriptionBuilder(final PerformableTree story) {
+        super(story);
+    }
+
+    @Override
+    public StoryResult buildDescription() {
+        List<PerformableTree.PerformableStory> performableStories = getStory().getRoot().getStories();
+        List<DescriptionDraft> drafts = new ArrayList<>(performableStories.size() + 2);
+        drafts.add(DescriptionDraft.test(Story.class, STORIES_BEFORE));
+        for (PerformableTree.PerformableStory performableStory : performableStories) {
+            drafts.add(createStoryDraft(performableStory).resolve(descriptions));
+        }
+        drafts.add(DescriptionDraft.test(Story.class, STORIES_AFTER));
+        return StoryResult.of(drafts);
+    }
+
+    @Override
+    protected Description createStoryDescription(PerformableTree.PerformableStory performableStory) {
+        return createStoryDraft(performableStory)
+            .resolve(descriptions)
+            .toDescription(new ScenarioPlans());
+    }
+
+    private DescriptionDraft createStoryDraft(PerformableTree.PerformableStory performableStory) {
+        DescriptionDraft storyDraft =
+            DescriptionDraft.uniqueSuite(buildStoryText(performableStory.getStory().getName()));
+        for (PerformableTree.PerformableScenario performableScenario : performableStory.getScenarios()) {
+            storyDraft.addChild(createScenarioDraft(performableScenario));
+        }
+        return storyDraft;
+    }
+
+    private DescriptionDraft createScenarioDraft(PerformableTree.PerformableScenario performableScenario) {
+        String scenarioText = buildScenarioText(getKeywords(), performableScenario.getScenario().getTitle());
+        if (!performableScenario.hasExamples()) {
+            return DescriptionDraft.uniqueTest(Scenario.class, scenarioText);
+        }
+        DescriptionDraft scenarioDraft = DescriptionDraft.suite(scenarioText);
+        for (PerformableTree.ExamplePerformableScenario examplePerformableScenario
+            : performableScenario.getExamples()) {
+            String exampleText = buildExampleText(getKeywords(), examplePerformableScenario.getParameters().toString());
+            scenarioDraft.addChild(DescriptionDraft.uniqueTest(ExamplesTable.class, exampleText));
+        }
+        return scenarioDraft;
+    }
+}
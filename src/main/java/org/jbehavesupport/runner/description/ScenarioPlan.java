@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner.description;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+import org.junit.runner.Description;
+
+/**
+ * Descriptions of scenario steps and examples in the order they are reported. Steps of all examples and composite
+ * steps are in one flat array.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+@Getter
+public class ScenarioPlan {
+
+    private final Description[] steps;
+    private final Description[] examples;
+
+    ScenarioPlan(Description[] steps, Description[] examples) {
+        this.steps = steps;
+        this.examples = examples;
+    }
+
+    /**
+     * Plan of a scenario description without a plan from the description builder, examples are recognized by
+     * the examples table row keyword.
+     */
+    public static ScenarioPlan of(Description scenarioDescription, String examplesTableRow) {
+        String examplePrefix = examplesTableRow + " ";
+        List<Description> steps = new ArrayList<>();
+        List<Description> examples = new ArrayList<>();
+        for (Description child : scenarioDescription.getChildren()) {
+            if (child.getDisplayName().startsWith(examplePrefix)) {
+                examples.add(child);
+            }
+        }
+        addSteps(scenarioDescription.getChildren(), examplePrefix, steps);
+        return new ScenarioPlan(steps.toArray(new Description[0]), examples.toArray(new Description[0]));
+    }
+
+    private static void addSteps(List<Description> children, String examplePrefix, List<Description> steps) {
+        for (Description description : children) {
+            if (description.isSuite() && !description.getDisplayName().startsWith(examplePrefix)) {
+                steps.add(description);
+                addSteps(description.getChildren(), examplePrefix, steps);
+            } else if (description.isSuite()) {
+                addSteps(description.getChildren(), examplePrefix, steps);
+            } else {
+                steps.add(description);
+            }
+        }
+    }
+}
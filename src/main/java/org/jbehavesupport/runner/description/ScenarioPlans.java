@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner.description;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.junit.runner.Description;
+
+/**
+ * Plans of scenarios made by the description builder. Scenario descriptions are not unique, so they are looked up
+ * by identity.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+public class ScenarioPlans {
+
+    private final Map<Description, ScenarioPlan> plans = new IdentityHashMap<>();
+
+    void add(Description scenarioDescription, ScenarioPlan scenarioPlan) {
+        plans.put(scenarioDescription, scenarioPlan);
+    }
+
+    /**
+     * Plan of the scenario description, or null when the description wasn't made by the description builder.
+     */
+    public ScenarioPlan getPlan(Description scenarioDescription) {
+        return plans.get(scenarioDescription);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.jbehavesupport.runner.description;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import lombok.Getter;
+import org.jbehave.core.steps.StepCandidate;
+
+/**
+ * Bounded LRU cache of resolved step candidates keyed by step text and previous non-And step. Steps without
+ * a candidate are cached as well, so unknown steps are not matched again. Cache can be shared by threads.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+public class StepCandidateCache {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private final Map<Key, Optional<StepCandidate>> resolved;
+
+    @Getter
+    private long hits;
+
+    @Getter
+    private long misses;
+
+    public StepCandidateCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public StepCandidateCache(final int maximumSize) {
+        this.resolved = new LinkedHashMap<Key, Optional<StepCandidate>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Optional<StepCandidate>> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    StepCandidate resolve(String step, String previousNonAndStep, Supplier<StepCandidate> resolver) {
+        Key key = new Key(step, previousNonAndStep);
+        Optional<StepCandidate> result;
+        synchronized (resolved) {
+            result = resolved.get(key);
+            if (result != null) {
+                hits++;
+                return result.orElse(null);
+            }
+            misses++;
+        }
+        // resolve outside of the lock, so steps of different stories can be matched concurrently
+        result = Optional.ofNullable(resolver.get());
+        synchronized (resolved) {
+            resolved.put(key, result);
+        }
+        return result.orElse(null);
+    }
+
+    public int size() {
+        synchronized (resolved) {
+            return resolved.size();
+        }
+    }
+
+    private static final class Key {
+        private final String step;
+        private final String previousNonAndStep;
+        private final int hash;
+
+        private Key(String step, String previousNonAndStep) {
+            this.step = step;
+            this.previousNonAndStep = previousNonAndStep;
+            this.hash = 31 * step.hashCode() + Objects.hashCode(previousNonAndStep);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return step.equals(key.step) && Objects.equals(previousNonAndStep, key.previousNonAndStep);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
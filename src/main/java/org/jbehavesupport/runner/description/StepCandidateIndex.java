@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.jbehavesupport.runner.description;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.parsers.RegexPrefixCapturingPatternParser;
+import org.jbehave.core.parsers.StepPatternParser;
+import org.jbehave.core.steps.StepCandidate;
+import org.jbehave.core.steps.StepType;
+
+/**
+ * Index of step candidates which narrows the candidates to be matched by regex for a given step.
+ * <p>
+ * Candidates are bucketed by their keywords, step type and the first literal word of the pattern. Lookup returns
+ * the first candidate (in the order of registration) which matches the step, the same as a linear scan over all
+ * candidates does. Lookups can run concurrently once all candidates are added.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+class StepCandidateIndex {
+
+    private static final int[] NO_POSITIONS = new int[0];
+
+    private final List<StepCandidate> candidates = new ArrayList<>();
+    private final Map<Keywords, Map<StepType, Bucket>> buckets = new IdentityHashMap<>();
+
+    void addAll(Configuration configuration, List<StepCandidate> stepCandidates) {
+        Map<StepType, Bucket> bucketsByType = buckets.computeIfAbsent(configuration.keywords(),
+            keywords -> new EnumMap<>(StepType.class));
+        String parameterPrefix = parameterPrefix(configuration.stepPatternParser());
+        for (StepCandidate stepCandidate : stepCandidates) {
+            int position = candidates.size();
+            candidates.add(stepCandidate);
+            bucketsByType.computeIfAbsent(stepCandidate.getStepType(), stepType -> new Bucket())
+                .add(leadingWord(stepCandidate.getPatternAsString(), parameterPrefix), position);
+        }
+    }
+
+    StepCandidate findFirst(String step, String previousNonAndStep) {
+        for (int position : positionsFor(step)) {
+            StepCandidate stepCandidate = candidates.get(position);
+            if (matches(stepCandidate, step, previousNonAndStep)) {
+                return stepCandidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Step matcher of the candidate keeps the last regex matcher in a field, so matching of one candidate
+     * must not run concurrently.
+     */
+    private static boolean matches(StepCandidate stepCandidate, String step, String previousNonAndStep) {
+        synchronized (stepCandidate) {
+            return stepCandidate.matches(step, previousNonAndStep);
+        }
+    }
+
+    private int[] positionsFor(String step) {
+        int[] result = NO_POSITIONS;
+        int size = 0;
+        for (Map.Entry<Keywords, Map<StepType, Bucket>> keywordsBuckets : buckets.entrySet()) {
+            for (Map.Entry<StepType, Bucket> typeBucket : keywordsBuckets.getValue().entrySet()) {
+                String strippedStep = stripStartingWord(keywordsBuckets.getKey(), step, typeBucket.getKey());
+                if (strippedStep == null) {
+                    continue;
+                }
+                Bucket bucket = typeBucket.getValue();
+                int[] keyed = bucket.byLeadingWord.getOrDefault(leadingWord(strippedStep), NO_POSITIONS);
+                int[] merged = new int[size + keyed.length + bucket.unkeyedSize];
+                System.arraycopy(result, 0, merged, 0, size);
+                System.arraycopy(keyed, 0, merged, size, keyed.length);
+                System.arraycopy(bucket.unkeyed, 0, merged, size + keyed.length, bucket.unkeyedSize);
+                result = merged;
+                size = merged.length;
+            }
+        }
+        // keep the order of registration, so the first match is the same as for the linear scan
+        Arrays.sort(result);
+        return result;
+    }
+
+    private static String stripStartingWord(Keywords keywords, String step, StepType stepType) {
+        try {
+            return keywords.stepWithoutStartingWord(step, stepType);
+        } catch (Keywords.StartingWordNotFound e) {
+            return null;
+        }
+    }
+
+    /**
+     * Leading literal word of the pattern, or null when the pattern can't be bucketed safely. Only patterns parsed
+     * by {@link RegexPrefixCapturingPatternParser} are known to match their leading word literally.
+     */
+    private static String leadingWord(String pattern, String parameterPrefix) {
+        if (parameterPrefix == null || pattern.indexOf('|') >= 0) {
+            return null;
+        }
+        String word = leadingWord(pattern);
+        return word.isEmpty() || word.contains(parameterPrefix) ? null : word;
+    }
+
+    private static String leadingWord(String text) {
+        int end = 0;
+        while (end < text.length() && !isWhitespace(text.charAt(end))) {
+            end++;
+        }
+        return text.substring(0, end);
+    }
+
+    private static String parameterPrefix(StepPatternParser stepPatternParser) {
+        if (stepPatternParser != null && stepPatternParser.getClass() == RegexPrefixCapturingPatternParser.class) {
+            return ((RegexPrefixCapturingPatternParser) stepPatternParser).getPrefix();
+        }
+        return null;
+    }
+
+    /**
+     * Whitespace as understood by the {@code \s} regex class used for patterns.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static class Bucket {
+        private final Map<String, int[]> byLeadingWord = new HashMap<>();
+        private int[] unkeyed = NO_POSITIONS;
+        private int unkeyedSize;
+
+        private void add(String leadingWord, int position) {
+            if (leadingWord == null) {
+                if (unkeyedSize == unkeyed.length) {
+                    unkeyed = Arrays.copyOf(unkeyed, Math.max(4, unkeyedSize * 2));
+                }
+                unkeyed[unkeyedSize++] = position;
+            } else {
+                byLeadingWord.merge(leadingWord, new int[]{position}, StepCandidateIndex::append);
+            }
+        }
+    }
+
+    private static int[] append(int[] positions, int[] position) {
+        int[] result = Arrays.copyOf(positions, positions.length + 1);
+        result[positions.length] = position[0];
+        return result;
+    }
+}
@@ -25,11 +25,8 @@ import static org.jbehavesupport.runner.JUnitRunnerFormatter.buildScenarioText;
 import static org.jbehavesupport.runner.JUnitRunnerFormatter.buildStoryText;
 import static org.jbehavesupport.runner.JUnitRunnerFormatter.normalizeStep;
 import static org.jbehavesupport.runner.JUnitRunnerFormatter.normalizeStoryName;
-import static org.junit.runner.Description.createSuiteDescription;
-import static org.junit.runner.Description.createTestDescription;
 
-import java.util.Arrays;
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -48,7 +45,8 @@ import org.junit.runner.Description;
 class StepLevelDescriptionBuilder extends AbstractDescriptionBuilder {
 
     private UniqueDescriptionGenerator descriptions;
-    private String previousNonAndStep;
+    private final ScenarioPlans scenarioPlans = new ScenarioPlans();
+    private final CompositeStepExpansions compositeStepExpansions = new CompositeStepExpansions();
 
     public StepLevelDescriptionBuilder(final PerformableTree story) {
         super(story);
@@ -57,132 +55,193 @@ class StepLevelDescriptionBuilder extends AbstractDescriptionBuilder {
 
     @Override
     public StoryResult buildDescription() {
-        List<Description> descriptions = getStory().getRoot()
+        // drafts are built in parallel, unique names are given in the order of stories
+        List<DescriptionDraft> drafts = getStory().getRoot()
             .getStories()
-            .stream()
-            .map(this::createStoryDescription)
+            .parallelStream()
+            .map(performableStory -> new StoryDraftBuilder().createStoryDraft(performableStory))
             .collect(Collectors.toList());
-        descriptions.add(0, createTestDescription(Story.class, STORIES_BEFORE));
-        descriptions.add(createTestDescription(Story.class, STORIES_AFTER));
-        return new StoryResult(descriptions);
+        List<DescriptionDraft> resolvedDrafts = new ArrayList<>(drafts.size() + 2);
+        resolvedDrafts.add(DescriptionDraft.test(Story.class, STORIES_BEFORE));
+        for (DescriptionDraft draft : drafts) {
+            resolvedDrafts.add(draft.resolve(descriptions));
+        }
+        resolvedDrafts.add(DescriptionDraft.test(Story.class, STORIES_AFTER));
+        return StoryResult.of(resolvedDrafts);
+    }
+
+    @Override
+    public StoryResult buildLazyDescription() {
+        LazyStoryDescriptions lazyStories = new LazyStoryDescriptions(
+            performableStory -> new StoryDraftBuilder().createStoryDraft(performableStory), descriptions);
+        List<PerformableTree.PerformableStory> performableStories = getStory().getRoot().getStories();
+        List<Description> storyDescriptions = new ArrayList<>(performableStories.size() + 2);
+        storyDescriptions.add(Description.createTestDescription(Story.class, STORIES_BEFORE));
+        for (PerformableTree.PerformableStory performableStory : performableStories) {
+            Description storyDescription = Description.createSuiteDescription(
+                descriptions.getUnique(buildStoryText(performableStory.getStory().getName())));
+            lazyStories.add(storyDescription, performableStory);
+            storyDescriptions.add(storyDescription);
+        }
+        storyDescriptions.add(Description.createTestDescription(Story.class, STORIES_AFTER));
+        releaseStory();
+        return StoryResult.lazy(storyDescriptions, lazyStories);
     }
 
     protected Description createStoryDescription(PerformableTree.PerformableStory performableStory) {
-        String storyString = buildStoryText(performableStory.getStory().getName());
-        Description description = createSuiteDescription(descriptions.getUnique(storyString));
-        if (hasGivenStories(performableStory)) {
-            addGivenStories(description, performableStory.getStory());
-        }
-        performableStory.getScenarios().forEach(
-            performableScenario -> getScenarioDescription(performableScenario).forEach(description::addChild)
-        );
-        return description;
+        return new StoryDraftBuilder().createStoryDraft(performableStory)
+            .resolve(descriptions)
+            .toDescription(scenarioPlans);
     }
 
-    private List<Description> getScenarioDescription(PerformableTree.PerformableScenario performableScenario) {
-        Description scenarioDescription = createSuiteDescription(buildScenarioText(getKeywords(), performableScenario.getScenario().getTitle()));
-        if (performableScenario.hasExamples()) {
-            performableScenario.getExamples()
-                .stream()
-                .map(examplePerformableScenario -> {
-                    String exampleString = buildExampleText(getKeywords(), examplePerformableScenario.getParameters().toString());
-                    Description exampleDescription = createSuiteDescription(descriptions.getUnique(exampleString));
-                    performableScenario.getScenario()
-                        .getSteps()
-                        .forEach(step -> addIfNotAComment(exampleDescription, step));
-                    return exampleDescription;
-                })
-                .forEach(scenarioDescription::addChild);
+    private boolean isNotAComment(final String stringStepOneLine) {
+        boolean result;
+        if (getStepCandidates().isEmpty()) {
+            result = true;
         } else {
-            if (hasGivenStories(performableScenario)) {
-                addGivenStories(scenarioDescription, performableScenario.getScenario());
-            }
-            performableScenario.getScenario()
-                .getSteps()
-                .forEach(step -> addIfNotAComment(scenarioDescription, step));
+            result = !getStepCandidates().get(0).comment(stringStepOneLine);
         }
-        return Collections.singletonList(scenarioDescription);
+        return result;
     }
 
-    private void addIfNotAComment(Description description, String step) {
-        if (isNotAComment(step)) {
-            description.addChild(getStepDescription(step));
+    /**
+     * Builds draft of one story, previous non-And step is tracked per story.
+     */
+    private class StoryDraftBuilder {
+
+        private String previousNonAndStep;
+
+        private DescriptionDraft createStoryDraft(PerformableTree.PerformableStory performableStory) {
+            String storyString = buildStoryText(performableStory.getStory().getName());
+            DescriptionDraft draft = DescriptionDraft.uniqueSuite(storyString);
+            if (hasGivenStories(performableStory)) {
+                addGivenStories(draft, performableStory.getStory());
+            }
+            performableStory.getScenarios().forEach(
+                performableScenario -> draft.addChild(getScenarioDraft(performableScenario))
+            );
+            return draft;
         }
-    }
 
-    private void addGivenStories(Description scenarioDescription, Scenario scenario) {
-        scenario.getGivenStories()
-            .getStories()
-            .forEach(story -> {
-                String storyString = normalizeStoryName(story.getPath());
-                scenarioDescription.addChild(createTestDescription(GivenStory.class, descriptions.getUnique(storyString)));
-            });
-    }
+        private DescriptionDraft getScenarioDraft(PerformableTree.PerformableScenario performableScenario) {
+            DescriptionDraft scenarioDraft = DescriptionDraft.scenario(
+                buildScenarioText(getKeywords(), performableScenario.getScenario().getTitle()));
+            if (performableScenario.hasExamples()) {
+                performableScenario.getExamples()
+                    .stream()
+                    .map(examplePerformableScenario -> {
+                        String exampleString =
+                            buildExampleText(getKeywords(), examplePerformableScenario.getParameters().toString());
+                        DescriptionDraft exampleDraft = DescriptionDraft.example(exampleString);
+                        performableScenario.getScenario()
+                            .getSteps()
+                            .forEach(step -> addIfNotAComment(exampleDraft, step));
+                        return exampleDraft;
+                    })
+                    .forEach(scenarioDraft::addChild);
+            } else {
+                if (hasGivenStories(performableScenario)) {
+                    addGivenStories(scenarioDraft, performableScenario.getScenario());
+                }
+                performableScenario.getScenario()
+                    .getSteps()
+                    .forEach(step -> addIfNotAComment(scenarioDraft, step));
+            }
+            return scenarioDraft;
+        }
 
+        private void addIfNotAComment(DescriptionDraft draft, String step) {
+            if (isNotAComment(step)) {
+                draft.addChild(getStepDraft(step));
+            }
+        }
 
-    private void addGivenStories(Description storyDescription, Story story) {
-        story.getGivenStories()
-            .getStories()
-            .forEach(givenStory -> {
-                String storyString = normalizeStoryName(givenStory.getPath());
-                storyDescription.addChild(createTestDescription(GivenStory.class, descriptions.getUnique(storyString)));
-            });
-    }
+        private void addGivenStories(DescriptionDraft scenarioDraft, Scenario scenario) {
+            scenario.getGivenStories()
+                .getStories()
+                .forEach(story -> {
+                    String storyString = normalizeStoryName(story.getPath());
+                    scenarioDraft.addChild(DescriptionDraft.uniqueTest(GivenStory.class, storyString));
+                });
+        }
 
-    private boolean hasGivenStories(PerformableTree.PerformableScenario performableScenario) {
-        return !performableScenario.getScenario().getGivenStories().getPaths().isEmpty();
-    }
+        private void addGivenStories(DescriptionDraft storyDraft, Story story) {
+            story.getGivenStories()
+                .getStories()
+                .forEach(givenStory -> {
+                    String storyString = normalizeStoryName(givenStory.getPath());
+                    storyDraft.addChild(DescriptionDraft.uniqueTest(GivenStory.class, storyString));
+                });
+        }
 
-    private boolean hasGivenStories(PerformableTree.PerformableStory performableStory) {
-        return !performableStory.getStory().getGivenStories().getPaths().isEmpty();
-    }
+        private boolean hasGivenStories(PerformableTree.PerformableScenario performableScenario) {
+            return !performableScenario.getScenario().getGivenStories().getPaths().isEmpty();
+        }
 
-    private Description getStepDescription(String step) {
-        Description result;
-        StepCandidate stepCandidate = findCandidateStep(step);
-        if (stepCandidate != null) {
-            result = getStepDescription(stepCandidate, step);
-        } else {
-            result = getStepDescription(UnknownStep.class, step);
+        private boolean hasGivenStories(PerformableTree.PerformableStory performableStory) {
+            return !performableStory.getStory().getGivenStories().getPaths().isEmpty();
         }
-        return result;
-    }
 
-    private Description getStepDescription(Class<?> stepClass, String step) {
-        return createTestDescription(stepClass, descriptions.getUnique(normalizeStep(step)));
-    }
+        private DescriptionDraft getStepDraft(String step) {
+            DescriptionDraft result;
+            StepCandidate stepCandidate = findCandidateStep(step);
+            if (stepCandidate != null) {
+                result = getStepDraft(stepCandidate, step);
+            } else {
+                result = DescriptionDraft.uniqueTest(UnknownStep.class, normalizeStep(step));
+            }
+            return result;
+        }
 
-    private Description getStepDescription(StepCandidate stepCandidate, String step) {
-        Description result;
-        String uniqueStep = descriptions.getUnique(normalizeStep(step));
-        if (stepCandidate.isComposite()) {
-            result = createSuiteDescription(uniqueStep);
-            Arrays.stream(stepCandidate.composedSteps())
-                .forEach(childStep -> addIfNotAComment(result, childStep));
-        } else {
-            result = createTestDescription(stepCandidate.getStepsType(), uniqueStep);
+        private DescriptionDraft getStepDraft(StepCandidate stepCandidate, String step) {
+            DescriptionDraft result;
+            if (stepCandidate.isComposite()) {
+                result = DescriptionDraft.uniqueSuite(normalizeStep(step));
+                expand(stepCandidate).addDrafts(result);
+            } else {
+                result = DescriptionDraft.uniqueTest(stepCandidate.getStepsType(), normalizeStep(step));
+            }
+            return result;
         }
-        return result;
-    }
 
-    private StepCandidate findCandidateStep(String step) {
-        StepCandidate resultStepCandidate = getStepCandidates().stream()
-            .filter(stepCandidate -> stepCandidate.matches(step, previousNonAndStep))
-            .findFirst()
-            .orElse(null);
-        if (nonNull(resultStepCandidate) && resultStepCandidate.getStepType() != StepType.AND) {
-            previousNonAndStep = resultStepCandidate.getStartingWord() + " ";
+        /**
+         * Composed steps are matched only for the first occurrence of the composite step after the same previous
+         * non-And step, the previous non-And step after the composed steps is taken from the expansion.
+         */
+        private CompositeStepExpansions.Expansion expand(StepCandidate compositeStep) {
+            CompositeStepExpansions.Expansion expansion = compositeStepExpansions.resolve(compositeStep,
+                previousNonAndStep, () -> createExpansion(compositeStep));
+            previousNonAndStep = expansion.getPreviousNonAndStep();
+            return expansion;
         }
-        return resultStepCandidate;
-    }
 
-    private boolean isNotAComment(final String stringStepOneLine) {
-        boolean result;
-        if (getStepCandidates().isEmpty()) {
-            result = true;
-        } else {
-            result = !getStepCandidates().get(0).comment(stringStepOneLine);
+        private CompositeStepExpansions.Expansion createExpansion(StepCandidate compositeStep) {
+            List<CompositeStepExpansions.Step> steps = new ArrayList<>();
+            for (String composedStep : compositeStep.composedSteps()) {
+                if (isNotAComment(composedStep)) {
+                    steps.add(getComposedStep(composedStep));
+                }
+            }
+            return new CompositeStepExpansions.Expansion(steps, previousNonAndStep);
+        }
+
+        private CompositeStepExpansions.Step getComposedStep(String step) {
+            StepCandidate stepCandidate = findCandidateStep(step);
+            if (stepCandidate == null) {
+                return CompositeStepExpansions.Step.test(UnknownStep.class, normalizeStep(step));
+            } else if (stepCandidate.isComposite()) {
+                return CompositeStepExpansions.Step.composite(normalizeStep(step), expand(stepCandidate));
+            }
+            return CompositeStepExpansions.Step.test(stepCandidate.getStepsType(), normalizeStep(step));
+        }
+
+        private StepCandidate findCandidateStep(String step) {
+            StepCandidate resultStepCandidate = getStepCandidateCache().resolve(step, previousNonAndStep,
+                () -> getStepCandidateIndex().findFirst(step, previousNonAndStep));
+            if (nonNull(resultStepCandidate) && resultStepCandidate.getStepType() != StepType.AND) {
+                previousNonAndStep = resultStepCandidate.getStartingWord() + " ";
+            }
+            return resultStepCandidate;
         }
-        return result;
     }
 }
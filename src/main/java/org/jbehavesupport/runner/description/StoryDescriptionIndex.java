@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner.description;
+
+import static org.jbehavesupport.runner.JUnitRunnerFormatter.removeClass;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.runner.Description;
+
+/**
+ * Index of story descriptions, the children of root description, by their display name without class. Stories are
+ * looked up by reporters when a story starts.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+public class StoryDescriptionIndex {
+
+    private final List<Description> descriptions;
+    private final Map<String, int[]> positions = new HashMap<>();
+
+    public StoryDescriptionIndex(Description rootDescription) {
+        descriptions = rootDescription.getChildren();
+        for (int position = 0; position < descriptions.size(); position++) {
+            positions.merge(removeClass(descriptions.get(position).getDisplayName()), new int[]{position},
+                StoryDescriptionIndex::append);
+        }
+    }
+
+    /**
+     * Descriptions with any of the given display names without class, in the order of root children.
+     */
+    public List<Description> getDescriptions(String... names) {
+        int[] result = new int[0];
+        for (String name : names) {
+            int[] namePositions = positions.get(name);
+            if (namePositions != null) {
+                result = append(result, namePositions);
+            }
+        }
+        if (result.length == 0) {
+            return Collections.emptyList();
+        }
+        Arrays.sort(result);
+        List<Description> found = new ArrayList<>(result.length);
+        for (int position : result) {
+            found.add(descriptions.get(position));
+        }
+        return found;
+    }
+
+    private static int[] append(int[] positions, int[] other) {
+        int[] result = Arrays.copyOf(positions, positions.length + other.length);
+        System.arraycopy(other, 0, result, positions.length, other.length);
+        return result;
+    }
+}
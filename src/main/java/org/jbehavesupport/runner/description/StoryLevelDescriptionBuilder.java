@@ -44,16 +44,20 @@ class StoryLevelDescriptionBuilder extends AbstractDescriptionBuilder {
 
     @Override
     public StoryResult buildDescription() {
-        List<Description> descriptions = getStory().getRoot()
+        List<DescriptionDraft> drafts = getStory().getRoot()
             .getStories()
             .stream()
-            .map(this::createStoryDescription)
+            .map(story -> DescriptionDraft.test(Story.class, storyText(story)))
             .collect(Collectors.toList());
-        return new StoryResult(descriptions);
+        return StoryResult.of(drafts);
     }
 
     @Override
     protected Description createStoryDescription(final PerformableTree.PerformableStory story) {
-        return createTestDescription(Story.class, buildStoryText(descriptions.getUnique(story.getStory().getName())));
+        return createTestDescription(Story.class, storyText(story));
+    }
+
+    private String storyText(final PerformableTree.PerformableStory story) {
+        return buildStoryText(descriptions.getUnique(story.getStory().getName()));
     }
 }
@@ -31,6 +31,8 @@ public class StoryParser {
         switch (reportLevel) {
             case STEP:
                 return new StepLevelDescriptionBuilder(story);
+            case SCENARIO:
+                return new ScenarioLevelDescriptionBuilder(story);
             case STORY:
                 return new StoryLevelDescriptionBuilder(story);
             default:
@@ -19,9 +19,10 @@
 
 package org.jbehavesupport.runner.description;
 
+import java.util.ArrayList;
 import java.util.List;
 
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.junit.runner.Description;
 
@@ -30,7 +31,43 @@ import org.junit.runner.Description;
  * @since 4/23/2017
  */
 @Getter
-@AllArgsConstructor
 public class StoryResult {
     private final List<Description> storyDescriptions;
+    private final ScenarioPlans scenarioPlans;
+
+    @Getter(AccessLevel.PACKAGE)
+    private final List<DescriptionDraft> drafts;
+
+    /**
+     * Stories listed without children, or null when all descriptions are built.
+     */
+    private final LazyStoryDescriptions lazyStories;
+
+    public StoryResult(List<Description> storyDescriptions) {
+        this(storyDescriptions, new ScenarioPlans(), null, null);
+    }
+
+    private StoryResult(List<Description> storyDescriptions, ScenarioPlans scenarioPlans,
+                        List<DescriptionDraft> drafts, LazyStoryDescriptions lazyStories) {
+        this.storyDescriptions = storyDescriptions;
+        this.scenarioPlans = scenarioPlans;
+        this.drafts = drafts;
+        this.lazyStories = lazyStories;
+    }
+
+    /**
+     * Result of resolved drafts, which is kept with the result so it can be cached.
+     */
+    static StoryResult of(List<DescriptionDraft> drafts) {
+        ScenarioPlans scenarioPlans = new ScenarioPlans();
+        List<Description> storyDescriptions = new ArrayList<>(drafts.size());
+        for (DescriptionDraft draft : drafts) {
+            storyDescriptions.add(draft.toDescription(scenarioPlans));
+        }
+        return new StoryResult(storyDescriptions, scenarioPlans, drafts, null);
+    }
+
+    static StoryResult lazy(List<Description> storyDescriptions, LazyStoryDescriptions lazyStories) {
+        return new StoryResult(storyDescriptions, new ScenarioPlans(), null, lazyStories);
+    }
 }
@@ -19,23 +19,55 @@
 
 package org.jbehavesupport.runner.description;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
+ * Makes descriptions unique by appending zero-width-spaces. For every description without trailing zero-width-spaces
+ * only the numbers of already appended zero-width-spaces are kept.
+ *
  * @author Michal Bocek
  * @since 19/09/2017
  */
 public class UniqueDescriptionGenerator {
 
-    private Set<String> descriptions = new HashSet<>();
+    private static final char ZERO_WIDTH_SPACE = '\u200B';
+
+    private Map<String, Suffixes> descriptions = new HashMap<>();
 
     public String getUnique(String description) {
-        String result = description;
-        while (descriptions.contains(result)) {
-            result += '\u200B'; // zero-width-space
+        int baseLength = description.length();
+        while (baseLength > 0 && description.charAt(baseLength - 1) == ZERO_WIDTH_SPACE) {
+            baseLength--;
+        }
+        String base = description.substring(0, baseLength);
+        int suffixLength = descriptions.computeIfAbsent(base, key -> new Suffixes())
+            .use(description.length() - baseLength);
+        return suffixLength == description.length() - baseLength ? description : withSuffix(base, suffixLength);
+    }
+
+    private static String withSuffix(String base, int suffixLength) {
+        char[] result = Arrays.copyOf(base.toCharArray(), base.length() + suffixLength);
+        Arrays.fill(result, base.length(), result.length, ZERO_WIDTH_SPACE);
+        return new String(result);
+    }
+
+    /**
+     * Used numbers of zero-width-spaces appended to one base description.
+     */
+    private static class Suffixes {
+        private final BitSet used = new BitSet();
+        private int firstUnused;
+
+        private int use(int minimum) {
+            int result = minimum <= firstUnused ? firstUnused : used.nextClearBit(minimum);
+            used.set(result);
+            if (result == firstUnused) {
+                firstUnused = used.nextClearBit(result + 1);
+            }
+            return result;
         }
-        descriptions.add(result);
-        return result;
     }
 }
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner.engine;
+
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+
+/**
+ * Scenario, example, step or given story registered while its story runs. The first failure decides the result.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+class DynamicDescriptor extends AbstractTestDescriptor {
+
+    private final Type type;
+    private Throwable failure;
+
+    /**
+     * Unique id is the kind of the descriptor and its position among the children of the parent.
+     */
+    DynamicDescriptor(TestDescriptor parent, String kind, String displayName, Type type) {
+        super(parent.getUniqueId().append(kind, String.valueOf(parent.getChildren().size() + 1)), displayName);
+        this.type = type;
+    }
+
+    @Override
+    public Type getType() {
+        return type;
+    }
+
+    void fail(Throwable cause) {
+        if (failure == null) {
+            failure = cause;
+        }
+    }
+
+    TestExecutionResult result() {
+        return failure == null ? TestExecutionResult.successful() : TestExecutionResult.failed(failure);
+    }
+}
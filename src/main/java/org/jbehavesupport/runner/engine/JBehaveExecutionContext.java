@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner.engine;
+
+import lombok.Getter;
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.support.hierarchical.EngineExecutionContext;
+
+/**
+ * Listener of the execution and the stories of the embedder class being run.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+@Getter
+class JBehaveExecutionContext implements EngineExecutionContext {
+
+    private final EngineExecutionListener listener;
+    private final StoriesRun storiesRun;
+
+    JBehaveExecutionContext(EngineExecutionListener listener) {
+        this(listener, null);
+    }
+
+    private JBehaveExecutionContext(EngineExecutionListener listener, StoriesRun storiesRun) {
+        this.listener = listener;
+        this.storiesRun = storiesRun;
+    }
+
+    JBehaveExecutionContext withStoriesRun(StoriesRun storiesRun) {
+        return new JBehaveExecutionContext(listener, storiesRun);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner.engine;
+
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.jbehave.core.ConfigurableEmbedder;
+import org.junit.platform.commons.support.ReflectionSupport;
+import org.junit.platform.engine.EngineDiscoveryRequest;
+import org.junit.platform.engine.ExecutionRequest;
+import org.junit.platform.engine.Filter;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.discovery.ClassNameFilter;
+import org.junit.platform.engine.discovery.ClassSelector;
+import org.junit.platform.engine.discovery.ClasspathRootSelector;
+import org.junit.platform.engine.discovery.PackageSelector;
+import org.junit.platform.engine.discovery.UniqueIdSelector;
+import org.junit.platform.engine.support.config.PrefixedConfigurationParameters;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTestExecutorService;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestEngine;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService;
+
+/**
+ * JUnit Platform engine running JBehave embedders. Stories of an embedder class are registered at discovery without
+ * being parsed, scenarios, examples and steps are registered as dynamic tests while the story runs.
+ * <p>
+ * The engine discovers nothing unless {@code jbehave.engine.enabled} is true, so embedder classes run by the vintage
+ * engine are not run twice. Once enabled, embedder classes are run whatever JUnit 4 runner they declare, so the
+ * vintage engine should not run them as well. Stories of a class run concurrently when
+ * {@code jbehave.execution.parallel.enabled} is true, parallelism is configured by the
+ * {@code jbehave.execution.parallel.config.*} parameters the same way as for Jupiter.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+public class JBehaveTestEngine extends HierarchicalTestEngine<JBehaveExecutionContext> {
+
+    public static final String ENGINE_ID = "jbehave";
+    public static final String ENABLED = "jbehave.engine.enabled";
+    public static final String PARALLEL_EXECUTION_ENABLED = "jbehave.execution.parallel.enabled";
+    public static final String PARALLEL_CONFIG_PREFIX = "jbehave.execution.parallel.config.";
+
+    private static final Predicate<Class<?>> IS_EMBEDDER_CLASS = type ->
+        ConfigurableEmbedder.class.isAssignableFrom(type)
+            && Modifier.isPublic(type.getModifiers())
+            && !Modifier.isAbstract(type.getModifiers());
+
+    @Override
+    public String getId() {
+        return ENGINE_ID;
+    }
+
+    @Override
+    public Optional<String> getGroupId() {
+        return Optional.of("org.jbehavesupport");
+    }
+
+    @Override
+    public Optional<String> getArtifactId() {
+        return Optional.of("jbehave-junit-support");
+    }
+
+    @Override
+    public TestDescriptor discover(EngineDiscoveryRequest request, UniqueId uniqueId) {
+        EngineDescriptor engineDescriptor = new EngineDescriptor(uniqueId, "JBehave");
+        if (!request.getConfigurationParameters().getBoolean(ENABLED).orElse(false)) {
+            return engineDescriptor;
+        }
+        Predicate<String> classNameFilter = Filter.composeFilters(request.getFiltersByType(ClassNameFilter.class))
+            .toPredicate();
+        Set<Class<?>> classes = new LinkedHashSet<>();
+        for (ClassSelector selector : request.getSelectorsByType(ClassSelector.class)) {
+            classes.add(selector.getJavaClass());
+        }
+        for (PackageSelector selector : request.getSelectorsByType(PackageSelector.class)) {
+            classes.addAll(ReflectionSupport.findAllClassesInPackage(selector.getPackageName(), IS_EMBEDDER_CLASS,
+                classNameFilter));
+        }
+        for (ClasspathRootSelector selector : request.getSelectorsByType(ClasspathRootSelector.class)) {
+            classes.addAll(ReflectionSupport.findAllClassesInClasspathRoot(selector.getClasspathRoot(),
+                IS_EMBEDDER_CLASS, classNameFilter));
+        }
+        for (UniqueIdSelector selector : request.getSelectorsByType(UniqueIdSelector.class)) {
+            embedderClass(uniqueId, selector.getUniqueId()).ifPresent(classes::add);
+        }
+        for (Class<?> type : classes) {
+            if (IS_EMBEDDER_CLASS.test(type)) {
+                engineDescriptor.addChild(StoriesDescriptor.of(engineDescriptor.getUniqueId(), type));
+            }
+        }
+        return engineDescriptor;
+    }
+
+    /**
+     * Class of the embedder the unique id belongs to, stories and their dynamic tests are selected with the class.
+     */
+    private static Optional<Class<?>> embedderClass(UniqueId engineId, UniqueId selected) {
+        if (!selected.hasPrefix(engineId) || selected.getSegments().size() <= engineId.getSegments().size()) {
+            return Optional.empty();
+        }
+        UniqueId.Segment segment = selected.getSegments().get(engineId.getSegments().size());
+        if (!StoriesDescriptor.SEGMENT_TYPE.equals(segment.getType())) {
+            return Optional.empty();
+        }
+        return ReflectionSupport.tryToLoadClass(segment.getValue()).toOptional();
+    }
+
+    @Override
+    protected HierarchicalTestExecutorService createExecutorService(ExecutionRequest request) {
+        if (request.getConfigurationParameters().getBoolean(PARALLEL_EXECUTION_ENABLED).orElse(false)) {
+            return new ForkJoinPoolHierarchicalTestExecutorService(
+                new PrefixedConfigurationParameters(request.getConfigurationParameters(), PARALLEL_CONFIG_PREFIX));
+        }
+        return super.createExecutorService(request);
+    }
+
+    @Override
+    protected JBehaveExecutionContext createExecutionContext(ExecutionRequest request) {
+        return new JBehaveExecutionContext(request.getEngineExecutionListener());
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner.engine;
+
+import static java.util.Objects.nonNull;
+import static org.jbehavesupport.runner.JUnitRunnerFormatter.buildExampleText;
+import static org.jbehavesupport.runner.JUnitRunnerFormatter.buildScenarioText;
+import static org.jbehavesupport.runner.JUnitRunnerFormatter.normalizeStep;
+import static org.jbehavesupport.runner.JUnitRunnerFormatter.normalizeStoryName;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.failures.UUIDExceptionWrapper;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.steps.StepCreator;
+import org.jbehavesupport.runner.reporter.AbstractJUnitReporter;
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.TestDescriptor;
+
+/**
+ * Registers scenarios, examples and steps of the running story as dynamic tests. Given stories are reported as one
+ * test, failures of their steps are reported on it.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+class PlatformStoryReporter extends AbstractJUnitReporter {
+
+    private final EngineExecutionListener listener;
+    private final TestDescriptor storiesDescriptor;
+    private final Map<String, TestDescriptor> storyDescriptors = new HashMap<>();
+    private final Keywords keywords;
+
+    /**
+     * Stories can be performed by several threads, every thread reports its own story.
+     */
+    private final ThreadLocal<StoryState> state = ThreadLocal.withInitial(StoryState::new);
+
+    PlatformStoryReporter(EngineExecutionListener listener, StoriesDescriptor storiesDescriptor, Keywords keywords) {
+        this.listener = listener;
+        this.storiesDescriptor = storiesDescriptor;
+        this.keywords = keywords;
+        for (TestDescriptor child : storiesDescriptor.getChildren()) {
+            storyDescriptors.put(((StoryDescriptor) child).getStoryPath(), child);
+        }
+    }
+
+    /**
+     * Ends reporting of the story performed by the current thread, returns the failure outside of its scenarios.
+     */
+    Throwable storyFinished() {
+        Throwable failure = state.get().storyFailure;
+        state.remove();
+        return failure;
+    }
+
+    @Override
+    public void beforeStory(Story story, boolean givenStory) {
+        if (givenStory) {
+            if (notAGivenStory()) {
+                StoryState storyState = state.get();
+                storyState.givenStory = register(storyState.parent(), "given-story",
+                    normalizeStoryName(story.getPath()), TestDescriptor.Type.TEST);
+            }
+            givenStoryStarted();
+        } else {
+            StoryState storyState = new StoryState();
+            state.set(storyState);
+            String storyName = story.getName();
+            if (storyName.equals(BEFORE_STORIES) || storyName.equals(AFTER_STORIES)) {
+                storyState.dynamicStory = register(storiesDescriptor, "stories-steps", storyName,
+                    TestDescriptor.Type.CONTAINER);
+                storyState.story = storyState.dynamicStory;
+            } else {
+                storyState.story = storyDescriptors.get(story.getPath());
+            }
+        }
+        super.beforeStory(story, givenStory);
+    }
+
+    @Override
+    public void afterStory(boolean givenOrRestartingStory) {
+        super.afterStory(givenOrRestartingStory);
+        StoryState storyState = state.get();
+        if (givenStoriesDepth() == 1) {
+            finish(storyState.givenStory);
+            storyState.givenStory = null;
+            givenStoryFinished();
+        } else if (isAGivenStory()) {
+            givenStoryFinished();
+        } else {
+            storyState.finishSteps();
+            if (nonNull(storyState.dynamicStory)) {
+                finish(storyState.dynamicStory);
+                state.remove();
+            }
+        }
+    }
+
+    @Override
+    public void beforeScenario(String scenarioTitle) {
+        if (notAGivenStory()) {
+            StoryState storyState = state.get();
+            storyState.scenario = register(storyState.story, "scenario", buildScenarioText(keywords, scenarioTitle),
+                TestDescriptor.Type.CONTAINER);
+        }
+        super.beforeScenario(scenarioTitle);
+    }
+
+    @Override
+    public void afterScenario() {
+        super.afterScenario();
+        if (notAGivenStory()) {
+            StoryState storyState = state.get();
+            storyState.finishSteps();
+            storyState.finishExample();
+            finish(storyState.scenario);
+            storyState.scenario = null;
+        }
+    }
+
+    @Override
+    public void example(Map<String, String> tableRow) {
+        if (notAGivenStory()) {
+            StoryState storyState = state.get();
+            storyState.finishSteps();
+            storyState.finishExample();
+            storyState.example = register(storyState.scenario, "example",
+                buildExampleText(keywords, tableRow.toString()), TestDescriptor.Type.CONTAINER);
+        }
+        super.example(tableRow);
+    }
+
+    @Override
+    public void afterExamples() {
+        if (notAGivenStory()) {
+            StoryState storyState = state.get();
+            storyState.finishSteps();
+            storyState.finishExample();
+        }
+        super.afterExamples();
+    }
+
+    @Override
+    public void beforeStep(String step) {
+        if (notAGivenStory()) {
+            StoryState storyState = state.get();
+            storyState.steps.push(register(storyState.parent(), "step", stepName(step),
+                TestDescriptor.Type.TEST));
+        }
+        super.beforeStep(step);
+    }
+
+    @Override
+    public void successful(String step) {
+        super.successful(step);
+        if (notAGivenStory()) {
+            StoryState storyState = state.get();
+            if (!storyState.steps.isEmpty()) {
+                finish(storyState.steps.pop());
+            }
+        }
+    }
+
+    @Override
+    public void failed(String step, Throwable cause) {
+        if (cause instanceof UUIDExceptionWrapper) {
+            cause = cause.getCause();
+        }
+        super.failed(step, cause);
+        StoryState storyState = state.get();
+        if (isAGivenStory()) {
+            storyState.givenStory.fail(cause);
+        } else if (!storyState.steps.isEmpty()) {
+            DynamicDescriptor stepDescriptor = storyState.steps.pop();
+            stepDescriptor.fail(cause);
+            finish(stepDescriptor);
+        } else {
+            storyState.fail(cause);
+        }
+    }
+
+    @Override
+    public void ignorable(String step) {
+        super.ignorable(step);
+        skip(step, "Ignorable step");
+    }
+
+    @Override
+    public void notPerformed(String step) {
+        super.notPerformed(step);
+        skip(step, "Not performed because of a previous failure");
+    }
+
+    @Override
+    public void pending(String step) {
+        super.pending(step);
+        skip(step, "Pending step");
+    }
+
+    private void skip(String step, String reason) {
+        if (notAGivenStory()) {
+            StoryState storyState = state.get();
+            DynamicDescriptor stepDescriptor = new DynamicDescriptor(storyState.parent(), "step",
+                stepName(step), TestDescriptor.Type.TEST);
+            storyState.parent().addChild(stepDescriptor);
+            listener.dynamicTestRegistered(stepDescriptor);
+            listener.executionSkipped(stepDescriptor, reason);
+        }
+    }
+
+    /**
+     * Steps which are not performed are reported with their parameter values marked.
+     */
+    private static String stepName(String step) {
+        return normalizeStep(step.replace(StepCreator.PARAMETER_VALUE_START, "")
+            .replace(StepCreator.PARAMETER_VALUE_END, ""));
+    }
+
+    private DynamicDescriptor register(TestDescriptor parent, String kind, String displayName,
+                                       TestDescriptor.Type type) {
+        DynamicDescriptor descriptor = new DynamicDescriptor(parent, kind, displayName, type);
+        parent.addChild(descriptor);
+        listener.dynamicTestRegistered(descriptor);
+        listener.executionStarted(descriptor);
+        return descriptor;
+    }
+
+    private void finish(DynamicDescriptor descriptor) {
+        if (nonNull(descriptor)) {
+            listener.executionFinished(descriptor, descriptor.result());
+        }
+    }
+
+    private class StoryState {
+        private TestDescriptor story;
+        private DynamicDescriptor dynamicStory;
+        private DynamicDescriptor scenario;
+        private DynamicDescriptor example;
+        private DynamicDescriptor givenStory;
+        private final Deque<DynamicDescriptor> steps = new ArrayDeque<>();
+        private Throwable storyFailure;
+
+        /**
+         * Composite step is the parent of its steps.
+         */
+        private TestDescriptor parent() {
+            if (!steps.isEmpty()) {
+                return steps.peek();
+            }
+            if (nonNull(example)) {
+                return example;
+            }
+            return nonNull(scenario) ? scenario : story;
+        }
+
+        private void fail(Throwable cause) {
+            if (nonNull(example)) {
+                example.fail(cause);
+            } else if (nonNull(scenario)) {
+                scenario.fail(cause);
+            } else if (nonNull(dynamicStory)) {
+                dynamicStory.fail(cause);
+            } else if (storyFailure == null) {
+                storyFailure = cause;
+            }
+        }
+
+        /**
+         * Steps which were not reported as finished, e.g. composite steps of a failed step.
+         */
+        private void finishSteps() {
+            while (!steps.isEmpty()) {
+                finish(steps.pop());
+            }
+        }
+
+        private void finishExample() {
+            finish(example);
+            example = null;
+        }
+    }
+}
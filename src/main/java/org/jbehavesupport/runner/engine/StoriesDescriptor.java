@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner.engine;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jbehave.core.ConfigurableEmbedder;
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.embedder.Embedder;
+import org.jbehave.core.embedder.PerformableTree;
+import org.jbehave.core.failures.BatchFailures;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.steps.CandidateSteps;
+import org.jbehave.core.steps.StepCollector;
+import org.jbehavesupport.runner.StoryPaths;
+import org.junit.platform.commons.support.ReflectionSupport;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.hierarchical.Node;
+
+/**
+ * Embedder class with its stories. Before stories steps are performed before the first story, after stories steps
+ * when all stories finished.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+class StoriesDescriptor extends AbstractTestDescriptor implements Node<JBehaveExecutionContext> {
+
+    static final String SEGMENT_TYPE = "class";
+
+    private final ConfigurableEmbedder configurableEmbedder;
+    private final Throwable discoveryFailure;
+
+    private StoriesDescriptor(UniqueId uniqueId, Class<?> testClass, ConfigurableEmbedder configurableEmbedder,
+                              Throwable discoveryFailure) {
+        super(uniqueId, testClass.getSimpleName(), ClassSource.from(testClass));
+        this.configurableEmbedder = configurableEmbedder;
+        this.discoveryFailure = discoveryFailure;
+    }
+
+    /**
+     * Registers stories of the class by their paths, stories are parsed when the class runs. Failure to get the
+     * story paths is reported when the class runs.
+     */
+    static StoriesDescriptor of(UniqueId parentId, Class<?> testClass) {
+        UniqueId uniqueId = parentId.append(SEGMENT_TYPE, testClass.getName());
+        ConfigurableEmbedder configurableEmbedder;
+        List<String> storyPaths;
+        try {
+            configurableEmbedder = (ConfigurableEmbedder) ReflectionSupport.newInstance(testClass);
+            storyPaths = StoryPaths.of(configurableEmbedder);
+        } catch (Exception e) {
+            return new StoriesDescriptor(uniqueId, testClass, null, e);
+        }
+        StoriesDescriptor storiesDescriptor = new StoriesDescriptor(uniqueId, testClass, configurableEmbedder, null);
+        for (String storyPath : storyPaths) {
+            storiesDescriptor.addChild(new StoryDescriptor(uniqueId, storyPath));
+        }
+        return storiesDescriptor;
+    }
+
+    @Override
+    public Type getType() {
+        return Type.CONTAINER;
+    }
+
+    @Override
+    public JBehaveExecutionContext before(JBehaveExecutionContext context) throws Exception {
+        if (discoveryFailure != null) {
+            throw new IllegalStateException("Stories of " + getDisplayName() + " can not be discovered",
+                discoveryFailure);
+        }
+        Embedder embedder = configurableEmbedder.configuredEmbedder();
+        Configuration configuration = embedder.configuration();
+        PlatformStoryReporter reporter = new PlatformStoryReporter(context.getListener(), this,
+            configuration.keywords());
+        configuration.storyReporterBuilder().withReporters(reporter);
+        List<CandidateSteps> candidateSteps = embedder.stepsFactory().createCandidateSteps();
+        BatchFailures failures = new BatchFailures(embedder.embedderControls().verboseFailures());
+        PerformableTree performableTree = new PerformableTree();
+        PerformableTree.RunContext runContext = performableTree.newRunContext(configuration, candidateSteps,
+            embedder.embedderMonitor(), embedder.metaFilter(), failures);
+
+        Map<String, Story> stories = new LinkedHashMap<>();
+        for (TestDescriptor child : getChildren()) {
+            String storyPath = ((StoryDescriptor) child).getStoryPath();
+            stories.put(storyPath, performableTree.storyOfPath(configuration, storyPath));
+        }
+        performableTree.addStories(runContext, new ArrayList<>(stories.values()));
+        performableTree.performBeforeOrAfterStories(runContext, StepCollector.Stage.BEFORE);
+        return context.withStoriesRun(new StoriesRun(embedder, performableTree, runContext, stories, reporter));
+    }
+
+    /**
+     * Nothing is run when stories were not discovered or failed before they started.
+     */
+    @Override
+    public void after(JBehaveExecutionContext context) {
+        StoriesRun storiesRun = context.getStoriesRun();
+        if (storiesRun == null) {
+            return;
+        }
+        storiesRun.getPerformableTree().performBeforeOrAfterStories(storiesRun.getRunContext(),
+            StepCollector.Stage.AFTER);
+        storiesRun.getEmbedder().generateCrossReference();
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner.engine;
+
+import java.util.Map;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jbehave.core.embedder.Embedder;
+import org.jbehave.core.embedder.PerformableTree;
+import org.jbehave.core.model.Story;
+
+/**
+ * Performable tree of the stories of an embedder class. Stories of the tree can be performed concurrently, the same
+ * way the embedder performs them with several threads.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+@Getter
+@RequiredArgsConstructor
+class StoriesRun {
+
+    private final Embedder embedder;
+    private final PerformableTree performableTree;
+    private final PerformableTree.RunContext runContext;
+    private final Map<String, Story> stories;
+    private final PlatformStoryReporter reporter;
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner.engine;
+
+import static org.jbehavesupport.runner.JUnitRunnerFormatter.buildStoryText;
+
+import lombok.Getter;
+import org.jbehave.core.model.Story;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.ClasspathResourceSource;
+import org.junit.platform.engine.support.hierarchical.Node;
+
+/**
+ * Story registered at discovery by its path. Scenarios, examples and steps are registered while the story runs.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+class StoryDescriptor extends AbstractTestDescriptor implements Node<JBehaveExecutionContext> {
+
+    static final String SEGMENT_TYPE = "story";
+
+    @Getter
+    private final String storyPath;
+
+    StoryDescriptor(UniqueId parentId, String storyPath) {
+        super(parentId.append(SEGMENT_TYPE, storyPath),
+            buildStoryText(storyPath.substring(storyPath.lastIndexOf('/') + 1)),
+            ClasspathResourceSource.from(storyPath));
+        this.storyPath = storyPath;
+    }
+
+    @Override
+    public Type getType() {
+        return Type.CONTAINER;
+    }
+
+    @Override
+    public boolean mayRegisterTests() {
+        return true;
+    }
+
+    /**
+     * Failures outside of scenarios and steps fail the story.
+     */
+    @Override
+    public JBehaveExecutionContext execute(JBehaveExecutionContext context, DynamicTestExecutor dynamicTestExecutor)
+        throws Exception {
+
+        StoriesRun storiesRun = context.getStoriesRun();
+        Story story = storiesRun.getStories().get(storyPath);
+        storiesRun.getRunContext().embedderMonitor().runningStory(storyPath);
+        Throwable failure;
+        try {
+            storiesRun.getPerformableTree().perform(storiesRun.getRunContext(), story);
+        } finally {
+            failure = storiesRun.getReporter().storyFinished();
+        }
+        if (failure instanceof Exception) {
+            throw (Exception) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        return context;
+    }
+}
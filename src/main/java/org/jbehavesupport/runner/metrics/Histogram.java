@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of durations in nanoseconds, in the way of HDR histograms: buckets of powers of two are split into
+ * {@value #SUB_BUCKETS} linear sub-buckets, so values are kept with a relative error of at most
+ * 1/{@value #SUB_BUCKETS}. Recording doesn't lock, percentiles are estimated by the upper bound of the sub-bucket they
+ * fall into.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+public class Histogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+    public void record(long durationNanos) {
+        long duration = Math.max(0, durationNanos);
+        count.increment();
+        total.add(duration);
+        max.accumulateAndGet(duration, Math::max);
+        buckets.incrementAndGet(bucket(duration));
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotal() {
+        return total.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public long getMean() {
+        long recorded = getCount();
+        return recorded == 0 ? 0 : getTotal() / recorded;
+    }
+
+    /**
+     * Estimate of the percentile (0 to 100) of recorded durations, never more than the maximum.
+     */
+    public long getPercentile(double percentile) {
+        long recorded = 0;
+        long[] counts = new long[BUCKETS];
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            counts[bucket] = buckets.get(bucket);
+            recorded += counts[bucket];
+        }
+        long rank = Math.max(1, (long) Math.ceil(recorded * percentile / 100));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(upperBound(bucket), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Durations below {@value #SUB_BUCKETS} have a bucket each, greater durations are bucketed by their highest bit
+     * and the {@value #SUB_BUCKET_BITS} bits below it.
+     */
+    private static int bucket(long duration) {
+        if (duration < SUB_BUCKETS) {
+            return (int) duration;
+        }
+        int highestBit = Long.SIZE - 1 - Long.numberOfLeadingZeros(duration);
+        int shift = highestBit - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) (duration >>> shift) - SUB_BUCKETS;
+    }
+
+    private static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lowerBound = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner.metrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Default metrics, which keep a histogram for every name and write a JSON summary of them when the run finished.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+public class HistogramRunnerMetrics implements RunnerMetrics {
+
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private final Path summaryFile;
+
+    public HistogramRunnerMetrics(Path summaryFile) {
+        this.summaryFile = summaryFile;
+    }
+
+    @Override
+    public void record(String name, long durationNanos) {
+        Histogram histogram = histograms.get(name);
+        if (histogram == null) {
+            histogram = histograms.computeIfAbsent(name, key -> new Histogram());
+        }
+        histogram.record(durationNanos);
+    }
+
+    public Histogram getHistogram(String name) {
+        return histograms.get(name);
+    }
+
+    @Override
+    public void runFinished() {
+        try {
+            Path directory = summaryFile.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            try (Writer writer = Files.newBufferedWriter(summaryFile, StandardCharsets.UTF_8)) {
+                writeSummary(writer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Metrics summary can not be written to " + summaryFile, e);
+        }
+    }
+
+    /**
+     * Summary of histograms sorted by name, all durations are in nanoseconds.
+     */
+    void writeSummary(Writer writer) throws IOException {
+        writer.write("{");
+        String separator = "\n";
+        for (Map.Entry<String, Histogram> entry : new TreeMap<>(histograms).entrySet()) {
+            Histogram histogram = entry.getValue();
+            writer.write(separator);
+            writer.write("  " + quote(entry.getKey()) + ": {"
+                + "\"count\": " + histogram.getCount()
+                + ", \"totalNanos\": " + histogram.getTotal()
+                + ", \"meanNanos\": " + histogram.getMean()
+                + ", \"p50Nanos\": " + histogram.getPercentile(50)
+                + ", \"p90Nanos\": " + histogram.getPercentile(90)
+                + ", \"p99Nanos\": " + histogram.getPercentile(99)
+                + ", \"maxNanos\": " + histogram.getMax()
+                + "}");
+            separator = ",\n";
+        }
+        writer.write("\n}\n");
+    }
+
+    private static String quote(String text) {
+        StringBuilder result = new StringBuilder(text.length() + 2).append('"');
+        for (int index = 0; index < text.length(); index++) {
+            char c = text.charAt(index);
+            if (c == '"' || c == '\\') {
+                result.append('\\').append(c);
+            } else if (c < 0x20) {
+                result.append(String.format("\\u%04x", (int) c));
+            } else {
+                result.append(c);
+            }
+        }
+        return result.append('"').toString();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner.metrics;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jbehave.core.annotations.Given;
+import org.jbehave.core.annotations.Then;
+import org.jbehave.core.annotations.When;
+import org.jbehave.core.steps.DelegatingStepMonitor;
+import org.jbehave.core.steps.StepMonitor;
+
+/**
+ * Step monitor which records how long steps are performed, all of them as {@value #STEP_PERFORM} and every step
+ * method as {@code step.perform: <pattern>}, so steps of all data rows are kept together. Aliases of a step method
+ * are recorded by its main pattern. Steps are performed by the thread running the story, so the start of the step is
+ * kept per thread.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+public class MetricsStepMonitor extends DelegatingStepMonitor {
+
+    public static final String STEP_PERFORM = "step.perform";
+    public static final String STEP_PATTERN_PREFIX = STEP_PERFORM + ": ";
+
+    private final RunnerMetrics metrics;
+    private final ThreadLocal<long[]> started = ThreadLocal.withInitial(() -> new long[1]);
+    private final Map<Method, String> patterns = new ConcurrentHashMap<>();
+
+    public MetricsStepMonitor(StepMonitor delegate, RunnerMetrics metrics) {
+        super(delegate);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void beforePerforming(String step, boolean dryRun, Method method) {
+        super.beforePerforming(step, dryRun, method);
+        started.get()[0] = System.nanoTime();
+    }
+
+    @Override
+    public void afterPerforming(String step, boolean dryRun, Method method) {
+        long duration = System.nanoTime() - started.get()[0];
+        metrics.record(STEP_PERFORM, duration);
+        if (method != null) {
+            metrics.record(patterns.computeIfAbsent(method, MetricsStepMonitor::patternName), duration);
+        }
+        super.afterPerforming(step, dryRun, method);
+    }
+
+    private static String patternName(Method method) {
+        String pattern;
+        if (method.isAnnotationPresent(Given.class)) {
+            pattern = "Given " + method.getAnnotation(Given.class).value();
+        } else if (method.isAnnotationPresent(When.class)) {
+            pattern = "When " + method.getAnnotation(When.class).value();
+        } else if (method.isAnnotationPresent(Then.class)) {
+            pattern = "Then " + method.getAnnotation(Then.class).value();
+        } else {
+            pattern = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        }
+        return STEP_PATTERN_PREFIX + pattern;
+    }
+}
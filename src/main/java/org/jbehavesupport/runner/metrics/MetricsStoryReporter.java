@@ -0,0 +1,300 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner.metrics;
+
+import java.util.List;
+import java.util.Map;
+
+import org.jbehave.core.model.ExamplesTable;
+import org.jbehave.core.model.GivenStories;
+import org.jbehave.core.model.Lifecycle;
+import org.jbehave.core.model.Meta;
+import org.jbehave.core.model.Narrative;
+import org.jbehave.core.model.OutcomesTable;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.model.StoryDuration;
+import org.jbehave.core.reporters.StoryReporter;
+import org.jbehave.core.steps.StepCollector.Stage;
+
+/**
+ * Reporter which records how long every callback of the delegate takes, as {@code reporter.<callback>}. Callbacks
+ * of stories run in parallel are delayed until the story ends, so they measure the cost of reporting only.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+public class MetricsStoryReporter implements StoryReporter {
+
+    private final StoryReporter delegate;
+    private final RunnerMetrics metrics;
+
+    public MetricsStoryReporter(StoryReporter delegate, RunnerMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void storyNotAllowed(Story story, String filter) {
+        long start = System.nanoTime();
+        delegate.storyNotAllowed(story, filter);
+        metrics.record("reporter.storyNotAllowed", System.nanoTime() - start);
+    }
+
+    @Override
+    public void storyCancelled(Story story, StoryDuration storyDuration) {
+        long start = System.nanoTime();
+        delegate.storyCancelled(story, storyDuration);
+        metrics.record("reporter.storyCancelled", System.nanoTime() - start);
+    }
+
+    @Override
+    public void beforeStory(Story story, boolean givenStory) {
+        long start = System.nanoTime();
+        delegate.beforeStory(story, givenStory);
+        metrics.record("reporter.beforeStory", System.nanoTime() - start);
+    }
+
+    @Override
+    public void afterStory(boolean givenOrRestartingStory) {
+        long start = System.nanoTime();
+        delegate.afterStory(givenOrRestartingStory);
+        metrics.record("reporter.afterStory", System.nanoTime() - start);
+    }
+
+    @Override
+    public void narrative(Narrative narrative) {
+        long start = System.nanoTime();
+        delegate.narrative(narrative);
+        metrics.record("reporter.narrative", System.nanoTime() - start);
+    }
+
+    @Override
+    public void lifecyle(Lifecycle lifecycle) {
+        long start = System.nanoTime();
+        delegate.lifecyle(lifecycle);
+        metrics.record("reporter.lifecyle", System.nanoTime() - start);
+    }
+
+    @Override
+    public void beforeStorySteps(Stage stage) {
+        long start = System.nanoTime();
+        delegate.beforeStorySteps(stage);
+        metrics.record("reporter.beforeStorySteps", System.nanoTime() - start);
+    }
+
+    @Override
+    public void afterStorySteps(Stage stage) {
+        long start = System.nanoTime();
+        delegate.afterStorySteps(stage);
+        metrics.record("reporter.afterStorySteps", System.nanoTime() - start);
+    }
+
+    @Override
+    public void beforeScenarioSteps(Stage stage) {
+        long start = System.nanoTime();
+        delegate.beforeScenarioSteps(stage);
+        metrics.record("reporter.beforeScenarioSteps", System.nanoTime() - start);
+    }
+
+    @Override
+    public void afterScenarioSteps(Stage stage) {
+        long start = System.nanoTime();
+        delegate.afterScenarioSteps(stage);
+        metrics.record("reporter.afterScenarioSteps", System.nanoTime() - start);
+    }
+
+    @Override
+    public void scenarioNotAllowed(Scenario scenario, String filter) {
+        long start = System.nanoTime();
+        delegate.scenarioNotAllowed(scenario, filter);
+        metrics.record("reporter.scenarioNotAllowed", System.nanoTime() - start);
+    }
+
+    @Override
+    public void beforeScenario(Scenario scenario) {
+        long start = System.nanoTime();
+        delegate.beforeScenario(scenario);
+        metrics.record("reporter.beforeScenario", System.nanoTime() - start);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void beforeScenario(String scenarioTitle) {
+        long start = System.nanoTime();
+        delegate.beforeScenario(scenarioTitle);
+        metrics.record("reporter.beforeScenario", System.nanoTime() - start);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void scenarioMeta(Meta meta) {
+        long start = System.nanoTime();
+        delegate.scenarioMeta(meta);
+        metrics.record("reporter.scenarioMeta", System.nanoTime() - start);
+    }
+
+    @Override
+    public void afterScenario() {
+        long start = System.nanoTime();
+        delegate.afterScenario();
+        metrics.record("reporter.afterScenario", System.nanoTime() - start);
+    }
+
+    @Override
+    public void beforeGivenStories() {
+        long start = System.nanoTime();
+        delegate.beforeGivenStories();
+        metrics.record("reporter.beforeGivenStories", System.nanoTime() - start);
+    }
+
+    @Override
+    public void givenStories(GivenStories givenStories) {
+        long start = System.nanoTime();
+        delegate.givenStories(givenStories);
+        metrics.record("reporter.givenStories", System.nanoTime() - start);
+    }
+
+    @Override
+    public void givenStories(List<String> storyPaths) {
+        long start = System.nanoTime();
+        delegate.givenStories(storyPaths);
+        metrics.record("reporter.givenStories", System.nanoTime() - start);
+    }
+
+    @Override
+    public void afterGivenStories() {
+        long start = System.nanoTime();
+        delegate.afterGivenStories();
+        metrics.record("reporter.afterGivenStories", System.nanoTime() - start);
+    }
+
+    @Override
+    public void beforeExamples(List<String> steps, ExamplesTable table) {
+        long start = System.nanoTime();
+        delegate.beforeExamples(steps, table);
+        metrics.record("reporter.beforeExamples", System.nanoTime() - start);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void example(Map<String, String> tableRow) {
+        long start = System.nanoTime();
+        delegate.example(tableRow);
+        metrics.record("reporter.example", System.nanoTime() - start);
+    }
+
+    @Override
+    public void example(Map<String, String> tableRow, int exampleIndex) {
+        long start = System.nanoTime();
+        delegate.example(tableRow, exampleIndex);
+        metrics.record("reporter.example", System.nanoTime() - start);
+    }
+
+    @Override
+    public void afterExamples() {
+        long start = System.nanoTime();
+        delegate.afterExamples();
+        metrics.record("reporter.afterExamples", System.nanoTime() - start);
+    }
+
+    @Override
+    public void beforeStep(String step) {
+        long start = System.nanoTime();
+        delegate.beforeStep(step);
+        metrics.record("reporter.beforeStep", System.nanoTime() - start);
+    }
+
+    @Override
+    public void successful(String step) {
+        long start = System.nanoTime();
+        delegate.successful(step);
+        metrics.record("reporter.successful", System.nanoTime() - start);
+    }
+
+    @Override
+    public void ignorable(String step) {
+        long start = System.nanoTime();
+        delegate.ignorable(step);
+        metrics.record("reporter.ignorable", System.nanoTime() - start);
+    }
+
+    @Override
+    public void comment(String step) {
+        long start = System.nanoTime();
+        delegate.comment(step);
+        metrics.record("reporter.comment", System.nanoTime() - start);
+    }
+
+    @Override
+    public void pending(String step) {
+        long start = System.nanoTime();
+        delegate.pending(step);
+        metrics.record("reporter.pending", System.nanoTime() - start);
+    }
+
+    @Override
+    public void notPerformed(String step) {
+        long start = System.nanoTime();
+        delegate.notPerformed(step);
+        metrics.record("reporter.notPerformed", System.nanoTime() - start);
+    }
+
+    @Override
+    public void failed(String step, Throwable cause) {
+        long start = System.nanoTime();
+        delegate.failed(step, cause);
+        metrics.record("reporter.failed", System.nanoTime() - start);
+    }
+
+    @Override
+    public void failedOutcomes(String step, OutcomesTable table) {
+        long start = System.nanoTime();
+        delegate.failedOutcomes(step, table);
+        metrics.record("reporter.failedOutcomes", System.nanoTime() - start);
+    }
+
+    @Override
+    public void restarted(String step, Throwable cause) {
+        long start = System.nanoTime();
+        delegate.restarted(step, cause);
+        metrics.record("reporter.restarted", System.nanoTime() - start);
+    }
+
+    @Override
+    public void restartedStory(Story story, Throwable cause) {
+        long start = System.nanoTime();
+        delegate.restartedStory(story, cause);
+        metrics.record("reporter.restartedStory", System.nanoTime() - start);
+    }
+
+    @Override
+    public void dryRun() {
+        long start = System.nanoTime();
+        delegate.dryRun();
+        metrics.record("reporter.dryRun", System.nanoTime() - start);
+    }
+
+    @Override
+    public void pendingMethods(List<String> methods) {
+        long start = System.nanoTime();
+        delegate.pendingMethods(methods);
+        metrics.record("reporter.pendingMethods", System.nanoTime() - start);
+    }
+}
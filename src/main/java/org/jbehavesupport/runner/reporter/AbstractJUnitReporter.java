@@ -25,6 +25,9 @@ import org.jbehave.core.model.Story;
 import org.junit.runner.Description;
 
 /**
+ * Given stories are counted per thread, reporters extending this class get the depth of given stories by
+ * {@link #givenStoriesDepth()} instead of the former {@code givenStories} field.
+ *
  * @author Michal Bocek
  * @since 25/04/2017
  */
@@ -32,21 +35,46 @@ public class AbstractJUnitReporter extends LoggingReporter {
     protected static final String BEFORE_STORIES = "BeforeStories";
     protected static final String AFTER_STORIES = "AfterStories";
 
-    protected int givenStories = 0;
+    private final ThreadLocal<int[]> givenStories = ThreadLocal.withInitial(() -> new int[1]);
 
+    /**
+     * @deprecated descriptions of a story are looked up by
+     * {@link org.jbehavesupport.runner.description.StoryDescriptionIndex}
+     */
+    @Deprecated
     protected boolean isEligibleAs(Story story, Description description, String storyName) {
         return story.getName().equals(storyName) && description.getDisplayName().startsWith(storyName);
     }
 
+    /**
+     * @deprecated descriptions of a story are looked up by
+     * {@link org.jbehavesupport.runner.description.StoryDescriptionIndex}
+     */
+    @Deprecated
     protected boolean isEligibleAs(Description description, String storyName) {
         return removeClass(description.getDisplayName()).equals(buildStoryText(storyName));
     }
 
     protected boolean isAGivenStory() {
-        return this.givenStories > 0;
+        return givenStoriesDepth() > 0;
     }
 
     protected boolean notAGivenStory() {
-        return this.givenStories == 0;
+        return givenStoriesDepth() == 0;
+    }
+
+    /**
+     * Depth of given stories being reported by the current thread.
+     */
+    protected int givenStoriesDepth() {
+        return givenStories.get()[0];
+    }
+
+    protected void givenStoryStarted() {
+        givenStories.get()[0]++;
+    }
+
+    protected void givenStoryFinished() {
+        givenStories.get()[0]--;
     }
 }
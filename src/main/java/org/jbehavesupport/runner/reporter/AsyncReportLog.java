@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner.reporter;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.event.Level;
+
+/**
+ * Report log which hands events to a bounded buffer written to the delegate by a background thread, so reporting
+ * never waits for the log. When the buffer is full the events are dropped and the number of dropped events is logged
+ * instead. Info and lower events are dropped already when the buffer is three quarters full, so warnings and errors
+ * still have room. Events left in the buffer are written when the log is closed.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+public class AsyncReportLog implements ReportLog, AutoCloseable {
+
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    private static final long POLL_MILLIS = 100;
+
+    private final ReportLog delegate;
+    private final BlockingQueue<Event> events;
+    private final int infoCapacity;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean closed;
+    private long reportedDropped;
+
+    public AsyncReportLog(ReportLog delegate, int capacity) {
+        this.delegate = delegate;
+        this.events = new ArrayBlockingQueue<>(capacity);
+        this.infoCapacity = capacity - capacity / 4;
+        this.writer = new Thread(this::write, "jbehave-report-log");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public boolean isEnabled(Level level) {
+        return delegate.isEnabled(level);
+    }
+
+    @Override
+    public void log(Level level, String format, Object... arguments) {
+        if (closed) {
+            delegate.log(level, format, arguments);
+            return;
+        }
+        boolean important = level == Level.ERROR || level == Level.WARN;
+        if ((!important && events.size() >= infoCapacity) || !events.offer(new Event(level, format, arguments))) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Number of all events dropped so far.
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Writes the remaining events and stops the writer.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        closed = true;
+        writer.join();
+        for (Event event = events.poll(); event != null; event = events.poll()) {
+            event.writeTo(delegate);
+        }
+        writeDropped();
+    }
+
+    private void write() {
+        try {
+            while (!closed || !events.isEmpty()) {
+                Event event = events.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (event != null) {
+                    event.writeTo(delegate);
+                }
+                writeDropped();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Logs the number of events dropped since the last time, called by the writer or after it stopped.
+     */
+    private void writeDropped() {
+        long total = dropped.get();
+        if (total > reportedDropped) {
+            delegate.log(Level.WARN, "{} report events dropped, the log can not keep up with reporting",
+                total - reportedDropped);
+            reportedDropped = total;
+        }
+    }
+
+    private static final class Event {
+        private final Level level;
+        private final String format;
+        private final Object[] arguments;
+
+        private Event(Level level, String format, Object[] arguments) {
+            this.level = level;
+            this.format = format;
+            this.arguments = arguments;
+        }
+
+        private void writeTo(ReportLog reportLog) {
+            reportLog.log(level, format, arguments);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner.reporter;
+
+import static java.util.Objects.nonNull;
+import static org.jbehavesupport.runner.JUnitRunnerFormatter.buildStoryText;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.jbehave.core.failures.PendingStepFound;
+import org.jbehave.core.failures.UUIDExceptionWrapper;
+import org.jbehave.core.model.Story;
+import org.jbehavesupport.runner.description.StoryDescriptionIndex;
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunNotifier;
+
+/**
+ * Reports scenarios, or their example rows, as tests. Failures of steps and given stories are reported on the test
+ * which is running.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+public class JUnitScenarioReporter extends AbstractJUnitReporter {
+
+    private final RunNotifier notifier;
+    private final StoryDescriptionIndex storyDescriptions;
+
+    /**
+     * Stories can be performed by several threads, every thread reports its own story.
+     */
+    private final ThreadLocal<StoryState> state = ThreadLocal.withInitial(StoryState::new);
+
+    public JUnitScenarioReporter(RunNotifier notifier, StoryDescriptionIndex storyDescriptions) {
+        this.notifier = notifier;
+        this.storyDescriptions = storyDescriptions;
+    }
+
+    @Override
+    public void beforeStory(Story story, boolean givenStory) {
+        if (givenStory) {
+            givenStoryStarted();
+        } else {
+            StoryState storyState = new StoryState();
+            state.set(storyState);
+            for (Description description : getStoryDescriptions(story)) {
+                storyState.storyDescription = description;
+                storyState.runningDescription = description;
+                storyState.scenarioDescriptions = description.getChildren().iterator();
+                notifier.fireTestStarted(description);
+            }
+        }
+        super.beforeStory(story, givenStory);
+    }
+
+    private List<Description> getStoryDescriptions(Story story) {
+        String storyName = story.getName();
+        if (storyName.equals(BEFORE_STORIES) || storyName.equals(AFTER_STORIES)) {
+            return storyDescriptions.getDescriptions(storyName, buildStoryText(storyName));
+        }
+        return storyDescriptions.getDescriptions(buildStoryText(storyName));
+    }
+
+    @Override
+    public void afterStory(boolean givenOrRestartingStory) {
+        super.afterStory(givenOrRestartingStory);
+        if (isAGivenStory()) {
+            givenStoryFinished();
+        } else {
+            StoryState storyState = state.get();
+            if (nonNull(storyState.storyDescription)) {
+                notifier.fireTestFinished(storyState.storyDescription);
+            }
+            state.remove();
+        }
+    }
+
+    @Override
+    public void beforeScenario(String scenarioTitle) {
+        if (notAGivenStory()) {
+            StoryState storyState = state.get();
+            storyState.scenarioDescription = storyState.scenarioDescriptions.next();
+            storyState.runningDescription = storyState.scenarioDescription;
+            storyState.exampleDescriptions = storyState.scenarioDescription.getChildren().iterator();
+            notifier.fireTestStarted(storyState.scenarioDescription);
+        }
+        super.beforeScenario(scenarioTitle);
+    }
+
+    @Override
+    public void afterScenario() {
+        super.afterScenario();
+        if (notAGivenStory()) {
+            StoryState storyState = state.get();
+            notifier.fireTestFinished(storyState.scenarioDescription);
+            storyState.runningDescription = storyState.storyDescription;
+        }
+    }
+
+    @Override
+    public void example(Map<String, String> tableRow) {
+        if (notAGivenStory()) {
+            StoryState storyState = state.get();
+            finishExample(storyState);
+            storyState.exampleDescription = storyState.exampleDescriptions.next();
+            storyState.runningDescription = storyState.exampleDescription;
+            notifier.fireTestStarted(storyState.exampleDescription);
+        }
+        super.example(tableRow);
+    }
+
+    @Override
+    public void afterExamples() {
+        if (notAGivenStory()) {
+            StoryState storyState = state.get();
+            finishExample(storyState);
+            storyState.runningDescription = storyState.scenarioDescription;
+        }
+        super.afterExamples();
+    }
+
+    private void finishExample(StoryState storyState) {
+        if (nonNull(storyState.exampleDescription)) {
+            notifier.fireTestFinished(storyState.exampleDescription);
+            storyState.exampleDescription = null;
+        }
+    }
+
+    @Override
+    public void failed(String step, Throwable cause) {
+        if (cause instanceof UUIDExceptionWrapper) {
+            cause = cause.getCause();
+        }
+        super.failed(step, cause);
+        notifier.fireTestFailure(new Failure(state.get().runningDescription, cause));
+    }
+
+    @Override
+    public void pending(String step) {
+        super.pending(step);
+        notifier.fireTestFailure(new Failure(state.get().runningDescription, new PendingStepFound(step)));
+    }
+
+    private static class StoryState {
+        private Description storyDescription;
+        private Iterator<Description> scenarioDescriptions = Collections.emptyIterator();
+        private Description scenarioDescription;
+        private Iterator<Description> exampleDescriptions = Collections.emptyIterator();
+        private Description exampleDescription;
+        private Description runningDescription;
+    }
+}
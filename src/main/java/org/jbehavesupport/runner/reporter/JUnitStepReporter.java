@@ -21,13 +21,19 @@ package org.jbehavesupport.runner.reporter;
 import org.jbehave.core.configuration.Configuration;
 import org.jbehave.core.failures.UUIDExceptionWrapper;
 import org.jbehave.core.model.Story;
+import org.jbehavesupport.runner.description.LazyStoryDescriptions;
+import org.jbehavesupport.runner.description.ScenarioPlan;
+import org.jbehavesupport.runner.description.ScenarioPlans;
+import org.jbehavesupport.runner.description.StoryDescriptionIndex;
 import org.junit.runner.Description;
 import org.junit.runner.notification.Failure;
 import org.junit.runner.notification.RunNotifier;
 
 import java.util.*;
+import java.util.function.Consumer;
 
 import static java.util.Objects.nonNull;
+import static org.jbehavesupport.runner.JUnitRunnerFormatter.buildStoryText;
 
 /**
  * @author Michal Bocek
@@ -36,21 +42,36 @@ import static java.util.Objects.nonNull;
 public class JUnitStepReporter extends AbstractJUnitReporter {
 
     private final RunNotifier notifier;
-    private final Description rootDescription;
+    private final StoryDescriptionIndex storyDescriptions;
+    private final ScenarioPlans scenarioPlans;
+    private final LazyStoryDescriptions lazyStories;
     private final Configuration configuration;
 
-    private Description currentStoryDescription;
-    private Iterator<Description> scenariosDescriptions;
-    private Description currentScenarioDescription;
-    private Iterator<Description> examplesDescriptions;
-    private Description currentExampleDescription;
-    private Iterator<Description> stepsDescriptions;
-    private Deque<Description> currentStepDescription = new ArrayDeque<>();
+    /**
+     * Stories can be performed by several threads, every thread reports its own story.
+     */
+    private final ThreadLocal<StoryState> state = ThreadLocal.withInitial(StoryState::new);
 
     public JUnitStepReporter(RunNotifier notifier, Description rootDescription,
                              Configuration configuration) {
+        this(notifier, new StoryDescriptionIndex(rootDescription), new ScenarioPlans(), configuration);
+    }
+
+    public JUnitStepReporter(RunNotifier notifier, StoryDescriptionIndex storyDescriptions,
+                             ScenarioPlans scenarioPlans, Configuration configuration) {
+        this(notifier, storyDescriptions, scenarioPlans, null, configuration);
+    }
+
+    /**
+     * Reporter which expands descriptions of lazy stories when they start.
+     */
+    public JUnitStepReporter(RunNotifier notifier, StoryDescriptionIndex storyDescriptions,
+                             ScenarioPlans scenarioPlans, LazyStoryDescriptions lazyStories,
+                             Configuration configuration) {
         this.notifier = notifier;
-        this.rootDescription = rootDescription;
+        this.storyDescriptions = storyDescriptions;
+        this.scenarioPlans = scenarioPlans;
+        this.lazyStories = lazyStories;
         this.configuration = configuration;
     }
 
@@ -58,104 +79,104 @@ public class JUnitStepReporter extends AbstractJUnitReporter {
     public void beforeStory(Story story, boolean givenStory) {
         if (givenStory) {
             if (notAGivenStory()) {
-                currentStepDescription.push(hasNextStepsDescriptions() ? stepsDescriptions.next() : scenariosDescriptions.next());
-                notifier.fireTestStarted(currentStepDescription.peek());
+                StoryState storyState = state.get();
+                storyState.currentStepDescription.push(hasNextStepsDescriptions(storyState)
+                    ? storyState.nextStep() : storyState.scenariosDescriptions.next());
+                notifier.fireTestStarted(storyState.currentStepDescription.peek());
             }
-            this.givenStories++;
+            givenStoryStarted();
         } else {
             beforeStory(story);
         }
         super.beforeStory(story, givenStory);
     }
 
-    private boolean hasNextStepsDescriptions() {
-        return nonNull(stepsDescriptions) && stepsDescriptions.hasNext();
+    private boolean hasNextStepsDescriptions(StoryState storyState) {
+        return nonNull(storyState.scenarioPlan) && storyState.nextStep < storyState.scenarioPlan.getSteps().length;
     }
 
     private void beforeStory(Story story) {
-        for (Description description : rootDescription.getChildren()) {
-            if (description.isTest()
-                && (isEligibleAs(story, description, BEFORE_STORIES)
-                || isEligibleAs(story, description, AFTER_STORIES))) {
-                currentStoryDescription = description;
-                notifier.fireTestStarted(currentStoryDescription);
+        StoryState storyState = new StoryState();
+        state.set(storyState);
+        for (Description storyDescription : getStoryDescriptions(story)) {
+            Description description = expand(storyDescription, storyState);
+            if (description.isTest()) {
+                storyState.currentStoryDescription = description;
+                notifier.fireTestStarted(storyState.currentStoryDescription);
 
             }
-            if (description.isSuite()
-                && isEligibleAs(description, story.getName())) {
-                currentStoryDescription = description;
-                notifier.fireTestStarted(currentStoryDescription);
-                scenariosDescriptions = currentStoryDescription.getChildren().iterator();
+            if (description.isSuite()) {
+                storyState.currentStoryDescription = description;
+                notifier.fireTestStarted(storyState.currentStoryDescription);
+                storyState.scenariosDescriptions = storyState.currentStoryDescription.getChildren().iterator();
             }
         }
     }
 
+    private Description expand(Description storyDescription, StoryState storyState) {
+        if (nonNull(lazyStories) && lazyStories.isLazy(storyDescription)) {
+            storyState.scenarioPlans = new ScenarioPlans();
+            return lazyStories.expand(storyDescription, storyState.scenarioPlans);
+        }
+        return storyDescription;
+    }
+
+    private List<Description> getStoryDescriptions(Story story) {
+        String storyName = story.getName();
+        if (storyName.equals(BEFORE_STORIES) || storyName.equals(AFTER_STORIES)) {
+            return storyDescriptions.getDescriptions(storyName, buildStoryText(storyName));
+        }
+        return storyDescriptions.getDescriptions(buildStoryText(storyName));
+    }
+
     @Override
     public void afterStory(boolean givenOrRestartingStory) {
         super.afterStory(givenOrRestartingStory);
-        if (this.givenStories == 1) {
-            notifier.fireTestFinished(currentStepDescription.pop());
-            this.givenStories--;
+        StoryState storyState = state.get();
+        if (givenStoriesDepth() == 1) {
+            notifier.fireTestFinished(storyState.currentStepDescription.pop());
+            givenStoryFinished();
         } else if (isAGivenStory()) {
-            this.givenStories--;
-        } else if (nonNull(currentStoryDescription)) {
-            notifier.fireTestFinished(currentStoryDescription);
+            givenStoryFinished();
+        } else {
+            if (nonNull(storyState.currentStoryDescription)) {
+                notifier.fireTestFinished(storyState.currentStoryDescription);
+            }
+            // descriptions of the finished story are not needed anymore
+            state.remove();
         }
-
     }
 
     @Override
     public void beforeScenario(String scenarioTitle) {
         if (notAGivenStory()) {
-            currentScenarioDescription = scenariosDescriptions.next();
-            stepsDescriptions = getAllChildren(currentScenarioDescription.getChildren(), new ArrayList<>()).iterator();
-            examplesDescriptions = getAllExamples(currentScenarioDescription.getChildren()).iterator();
-            notifier.fireTestStarted(currentScenarioDescription);
+            StoryState storyState = state.get();
+            storyState.currentScenarioDescription = storyState.scenariosDescriptions.next();
+            storyState.startScenario(scenarioPlan(storyState, storyState.currentScenarioDescription));
+            notifier.fireTestStarted(storyState.currentScenarioDescription);
             super.beforeScenario(scenarioTitle);
         }
     }
 
-    private List<Description> getAllExamples(ArrayList<Description> children) {
-        List<Description> result = new ArrayList<>();
-        for (Description child : children) {
-            if (isExample(child)) {
-                result.add(child);
-            }
-        }
-        return result;
-    }
-
-    private boolean isExample(Description description) {
-       return  description.getDisplayName().startsWith(configuration.keywords().examplesTableRow() + " ");
-    }
-
-    private List<Description> getAllChildren(ArrayList<Description> children, List<Description> result) {
-        for (Description description : children) {
-            if (description.isSuite() && !isExample(description)) {
-                result.add(description);
-                getAllChildren(description.getChildren(), result);
-            } else if (description.isSuite()) {
-                getAllChildren(description.getChildren(), result);
-            } else {
-                result.add(description);
-            }
-        }
-        return result;
+    private ScenarioPlan scenarioPlan(StoryState storyState, Description scenarioDescription) {
+        ScenarioPlans plans = nonNull(storyState.scenarioPlans) ? storyState.scenarioPlans : scenarioPlans;
+        ScenarioPlan scenarioPlan = plans.getPlan(scenarioDescription);
+        return nonNull(scenarioPlan)
+            ? scenarioPlan : ScenarioPlan.of(scenarioDescription, configuration.keywords().examplesTableRow());
     }
 
     @Override
     public void afterScenario() {
         super.afterScenario();
         if (notAGivenStory()) {
-            notifier.fireTestFinished(currentScenarioDescription);
+            notifier.fireTestFinished(state.get().currentScenarioDescription);
         }
     }
 
     @Override
     public void beforeStep(String step) {
         if (notAGivenStory()) {
-            currentStepDescription.push(stepsDescriptions.next());
-            notifier.fireTestStarted(currentStepDescription.peek());
+            startStep(notifier::fireTestStarted);
         }
         super.beforeStep(step);
     }
@@ -164,7 +185,7 @@ public class JUnitStepReporter extends AbstractJUnitReporter {
     public void successful(String step) {
         super.successful(step);
         if (notAGivenStory()) {
-            notifier.fireTestFinished(currentStepDescription.pop());
+            notifier.fireTestFinished(state.get().currentStepDescription.pop());
         }
     }
 
@@ -174,9 +195,10 @@ public class JUnitStepReporter extends AbstractJUnitReporter {
             cause = cause.getCause();
         }
         super.failed(step, cause);
-        notifier.fireTestFailure(new Failure(currentStepDescription.peek(), cause));
+        Description currentStepDescription = state.get().currentStepDescription.peek();
+        notifier.fireTestFailure(new Failure(currentStepDescription, cause));
         if (notAGivenStory()) {
-            notifier.fireTestFinished(currentStepDescription.peek());
+            notifier.fireTestFinished(currentStepDescription);
         }
     }
 
@@ -184,8 +206,7 @@ public class JUnitStepReporter extends AbstractJUnitReporter {
     public void notPerformed(String step) {
         super.notPerformed(step);
         if (notAGivenStory()) {
-            currentStepDescription.push(stepsDescriptions.next());
-            notifier.fireTestIgnored(currentStepDescription.peek());
+            startStep(notifier::fireTestIgnored);
         }
     }
 
@@ -193,19 +214,19 @@ public class JUnitStepReporter extends AbstractJUnitReporter {
     public void pending(String step) {
         super.pending(step);
         if (notAGivenStory()) {
-            currentStepDescription.push(stepsDescriptions.next());
-            notifier.fireTestIgnored(currentStepDescription.peek());
+            startStep(notifier::fireTestIgnored);
         }
     }
 
     @Override
     public void example(Map<String, String> tableRow) {
         if (notAGivenStory()) {
-            if (nonNull(currentExampleDescription)) {
-                notifier.fireTestFinished(currentExampleDescription);
+            StoryState storyState = state.get();
+            if (nonNull(storyState.currentExampleDescription)) {
+                notifier.fireTestFinished(storyState.currentExampleDescription);
             }
-            currentExampleDescription = examplesDescriptions.next();
-            notifier.fireTestStarted(currentExampleDescription);
+            storyState.currentExampleDescription = storyState.nextExample();
+            notifier.fireTestStarted(storyState.currentExampleDescription);
         }
         super.example(tableRow);
     }
@@ -213,7 +234,7 @@ public class JUnitStepReporter extends AbstractJUnitReporter {
     @Override
     public void afterExamples() {
         if (notAGivenStory()) {
-            notifier.fireTestFinished(currentExampleDescription);
+            notifier.fireTestFinished(state.get().currentExampleDescription);
         }
         super.afterExamples();
     }
@@ -222,8 +243,39 @@ public class JUnitStepReporter extends AbstractJUnitReporter {
     public void ignorable(String step) {
         super.ignorable(step);
         if (notAGivenStory()) {
-            currentStepDescription.push(stepsDescriptions.next());
-            notifier.fireTestIgnored(currentStepDescription.peek());
+            startStep(notifier::fireTestIgnored);
+        }
+    }
+
+    private void startStep(Consumer<Description> notification) {
+        StoryState storyState = state.get();
+        storyState.currentStepDescription.push(storyState.nextStep());
+        notification.accept(storyState.currentStepDescription.peek());
+    }
+
+    private static class StoryState {
+        private Description currentStoryDescription;
+        private ScenarioPlans scenarioPlans;
+        private Iterator<Description> scenariosDescriptions;
+        private Description currentScenarioDescription;
+        private ScenarioPlan scenarioPlan;
+        private int nextStep;
+        private int nextExample;
+        private Description currentExampleDescription;
+        private final Deque<Description> currentStepDescription = new ArrayDeque<>();
+
+        private void startScenario(ScenarioPlan scenarioPlan) {
+            this.scenarioPlan = scenarioPlan;
+            nextStep = 0;
+            nextExample = 0;
+        }
+
+        private Description nextStep() {
+            return scenarioPlan.getSteps()[nextStep++];
+        }
+
+        private Description nextExample() {
+            return scenarioPlan.getExamples()[nextExample++];
         }
     }
 }
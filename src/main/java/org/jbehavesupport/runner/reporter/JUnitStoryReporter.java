@@ -22,11 +22,13 @@ import org.jbehave.core.configuration.Configuration;
 import org.jbehave.core.failures.PendingStepFound;
 import org.jbehave.core.failures.UUIDExceptionWrapper;
 import org.jbehave.core.model.Story;
+import org.jbehavesupport.runner.description.StoryDescriptionIndex;
 import org.junit.runner.Description;
 import org.junit.runner.notification.Failure;
 import org.junit.runner.notification.RunNotifier;
 
 import static java.util.Objects.nonNull;
+import static org.jbehavesupport.runner.JUnitRunnerFormatter.buildStoryText;
 
 /**
  * @author Michal Bocek
@@ -35,27 +37,34 @@ import static java.util.Objects.nonNull;
 public class JUnitStoryReporter extends AbstractJUnitReporter {
 
     private final RunNotifier notifier;
-    private final Description rootDescription;
+    private final StoryDescriptionIndex storyDescriptions;
     private final Configuration configuration;
 
-    private Description currentStoryDescription;
+    /**
+     * Stories can be performed by several threads, every thread reports its own story.
+     */
+    private final ThreadLocal<Description> currentStoryDescription = new ThreadLocal<>();
 
     public JUnitStoryReporter(RunNotifier notifier, Description rootDescription, Configuration configuration) {
+        this(notifier, new StoryDescriptionIndex(rootDescription), configuration);
+    }
+
+    public JUnitStoryReporter(RunNotifier notifier, StoryDescriptionIndex storyDescriptions,
+                              Configuration configuration) {
         this.notifier = notifier;
-        this.rootDescription = rootDescription;
+        this.storyDescriptions = storyDescriptions;
         this.configuration = configuration;
     }
 
     @Override
     public void beforeStory(Story story, boolean givenStory) {
         if (givenStory) {
-            this.givenStories++;
+            givenStoryStarted();
         } else {
-            for (Description description : rootDescription.getChildren()) {
-                if (description.isTest()
-                    && isEligibleAs(description, story.getName())) {
-                    currentStoryDescription = description;
-                    notifier.fireTestStarted(currentStoryDescription);
+            for (Description description : storyDescriptions.getDescriptions(buildStoryText(story.getName()))) {
+                if (description.isTest()) {
+                    currentStoryDescription.set(description);
+                    notifier.fireTestStarted(description);
                 }
             }
         }
@@ -66,10 +75,10 @@ public class JUnitStoryReporter extends AbstractJUnitReporter {
     public void afterStory(boolean givenOrRestartingStory) {
         super.afterStory(givenOrRestartingStory);
         if (isAGivenStory()) {
-            this.givenStories--;
-        } else if (nonNull(currentStoryDescription)) {
-            notifier.fireTestFinished(currentStoryDescription);
-            currentStoryDescription = null;
+            givenStoryFinished();
+        } else if (nonNull(currentStoryDescription.get())) {
+            notifier.fireTestFinished(currentStoryDescription.get());
+            currentStoryDescription.remove();
         }
     }
 
@@ -79,12 +88,12 @@ public class JUnitStoryReporter extends AbstractJUnitReporter {
             cause = cause.getCause();
         }
         super.failed(step, cause);
-        notifier.fireTestFailure(new Failure(currentStoryDescription, cause));
+        notifier.fireTestFailure(new Failure(currentStoryDescription.get(), cause));
     }
 
     @Override
     public void pending(String step) {
         super.pending(step);
-        notifier.fireTestFailure(new Failure(currentStoryDescription, new PendingStepFound(step)));
+        notifier.fireTestFailure(new Failure(currentStoryDescription.get(), new PendingStepFound(step)));
     }
 }
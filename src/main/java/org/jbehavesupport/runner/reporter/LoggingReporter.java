@@ -21,6 +21,7 @@ package org.jbehavesupport.runner.reporter;
 import java.util.List;
 import java.util.Map;
 
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.jbehave.core.model.ExamplesTable;
 import org.jbehave.core.model.GivenStories;
@@ -32,6 +33,7 @@ import org.jbehave.core.model.Scenario;
 import org.jbehave.core.model.Story;
 import org.jbehave.core.model.StoryDuration;
 import org.jbehave.core.reporters.NullStoryReporter;
+import org.slf4j.event.Level;
 
 /**
  * @author Michal Bocek
@@ -40,149 +42,203 @@ import org.jbehave.core.reporters.NullStoryReporter;
 @Slf4j
 public class LoggingReporter extends NullStoryReporter {
 
+    /**
+     * FULL logs every event, FAILURES only warnings and errors, i.e. failed, pending and not performed steps, NONE
+     * logs nothing. Events which are not logged cost no formatting of their arguments.
+     */
+    public enum Verbosity {
+        NONE, FAILURES, FULL
+    }
+
+    @Getter
+    private ReportLog reportLog = new Slf4jReportLog(log);
+
+    @Getter
+    private Verbosity verbosity = Verbosity.FULL;
+
+    /**
+     * Log the events are written to, e.g. {@link AsyncReportLog} to write them in the background.
+     */
+    public void useReportLog(ReportLog reportLog) {
+        this.reportLog = reportLog;
+    }
+
+    public void useVerbosity(Verbosity verbosity) {
+        this.verbosity = verbosity;
+    }
+
+    private boolean isReported(Level level) {
+        switch (verbosity) {
+            case FULL:
+                return reportLog.isEnabled(level);
+            case FAILURES:
+                return (level == Level.ERROR || level == Level.WARN) && reportLog.isEnabled(level);
+            default:
+                return false;
+        }
+    }
+
+    private void report(Level level, String message) {
+        if (isReported(level)) {
+            reportLog.log(level, message);
+        }
+    }
+
+    private void report(Level level, String format, Object argument) {
+        if (isReported(level)) {
+            reportLog.log(level, format, argument);
+        }
+    }
+
+    private void report(Level level, String format, Object first, Object second) {
+        if (isReported(level)) {
+            reportLog.log(level, format, first, second);
+        }
+    }
+
     @Override
     public void storyNotAllowed(Story story, String filter) {
-        log.info("Story: {} not allowed for filter: {}", story.getName(), filter);
+        report(Level.INFO, "Story: {} not allowed for filter: {}", story.getName(), filter);
     }
 
     @Override
     public void storyCancelled(Story story, StoryDuration storyDuration) {
-        log.info("Story: {} cancelled in: {}s", story.getName(), storyDuration.getDurationInSecs());
+        report(Level.INFO, "Story: {} cancelled in: {}s", story.getName(), storyDuration.getDurationInSecs());
     }
 
     @Override
     public void beforeStory(Story story, boolean givenStory) {
-        log.info("Before story: {}", story.getName() + (givenStory ? "(given story)" : ""));
+        report(Level.INFO, "Before story: {}{}", story.getName(), givenStory ? "(given story)" : "");
     }
 
     @Override
     public void afterStory(boolean givenOrRestartingStory) {
-        log.info("After story");
+        report(Level.INFO, "After story");
     }
 
     @Override
     public void narrative(Narrative narrative) {
         if (!narrative.isEmpty()) {
-            log.info("Narrative:");
+            report(Level.INFO, "Narrative:");
         }
         if (!narrative.inOrderTo().isEmpty()) {
-            log.info("In order to {}", narrative.inOrderTo());
+            report(Level.INFO, "In order to {}", narrative.inOrderTo());
         }
         if (!narrative.asA().isEmpty()) {
-            log.info("As a {}", narrative.asA());
+            report(Level.INFO, "As a {}", narrative.asA());
         }
         if (!narrative.iWantTo().isEmpty()) {
-            log.info("I want to {}", narrative.iWantTo());
+            report(Level.INFO, "I want to {}", narrative.iWantTo());
         }
         if (!narrative.soThat().isEmpty()) {
-            log.info("So that {}", narrative.soThat());
+            report(Level.INFO, "So that {}", narrative.soThat());
         }
     }
 
     @Override
     public void lifecyle(Lifecycle lifecycle) {
         if (!lifecycle.isEmpty()) {
-            log.info("Lifecycle: {}", lifecycle);
+            report(Level.INFO, "Lifecycle: {}", lifecycle);
         }
     }
 
     @Override
     public void scenarioNotAllowed(Scenario scenario, String filter) {
-        log.info("Scenario: {} not allowed by filer: {}", scenario.getTitle(), filter);
+        report(Level.INFO, "Scenario: {} not allowed by filer: {}", scenario.getTitle(), filter);
     }
 
     @Override
     public void beforeScenario(String scenarioTitle) {
-        log.info("Before scenario: {}", scenarioTitle);
+        report(Level.INFO, "Before scenario: {}", scenarioTitle);
     }
 
     @Override
     public void scenarioMeta(Meta meta) {
-        log.info("Scenario meta: {}", meta);
+        report(Level.INFO, "Scenario meta: {}", meta);
     }
 
     @Override
     public void afterScenario() {
-        log.info("After scenario");
+        report(Level.INFO, "After scenario");
     }
 
     @Override
     public void givenStories(GivenStories givenStories) {
-        log.info("Given stories: {}", givenStories);
+        report(Level.INFO, "Given stories: {}", givenStories);
     }
 
     @Override
     public void givenStories(List<String> storyPaths) {
-        log.info("Given stories: {}", storyPaths);
+        report(Level.INFO, "Given stories: {}", storyPaths);
     }
 
     @Override
     public void beforeExamples(List<String> steps, ExamplesTable table) {
-        log.info("Before steps: {} with example table: {}", steps, table);
+        report(Level.INFO, "Before steps: {} with example table: {}", steps, table);
     }
 
     @Override
     public void example(Map<String, String> tableRow) {
-        log.info("Example: {}", tableRow);
+        report(Level.INFO, "Example: {}", tableRow);
     }
 
     @Override
     public void afterExamples() {
-        log.info("After examples");
+        report(Level.INFO, "After examples");
     }
 
     @Override
     public void beforeStep(String step) {
-        log.info("Before step: {}", step);
+        report(Level.INFO, "Before step: {}", step);
     }
 
     @Override
     public void successful(String step) {
-        log.info("Successful step: {}", step);
+        report(Level.INFO, "Successful step: {}", step);
     }
 
     @Override
     public void ignorable(String step) {
-        log.info("Ignorable step: {}", step);
+        report(Level.INFO, "Ignorable step: {}", step);
     }
 
     @Override
     public void pending(String step) {
-        log.error("Pending step: {}", step);
+        report(Level.ERROR, "Pending step: {}", step);
     }
 
     @Override
     public void notPerformed(String step) {
-        log.warn("Not performed step: {}", step);
+        report(Level.WARN, "Not performed step: {}", step);
     }
 
     @Override
     public void failed(String step, Throwable cause) {
-        log.error("Failed step: {} cause: {}", step, cause);
+        report(Level.ERROR, "Failed step: {} cause: {}", step, cause);
     }
 
     @Override
     public void failedOutcomes(String step, OutcomesTable table) {
-        log.error("Failed step: {} outcomes: {}", step, table);
+        report(Level.ERROR, "Failed step: {} outcomes: {}", step, table);
     }
 
     @Override
     public void restarted(String step, Throwable cause) {
-        log.info("Restarted step: {} because of: {}", step, cause);
+        report(Level.INFO, "Restarted step: {} because of: {}", step, cause);
     }
 
     @Override
     public void restartedStory(Story story, Throwable cause) {
-        log.error("Restarted story: {} because of: {}", story.getName(), cause);
+        report(Level.ERROR, "Restarted story: {} because of: {}", story.getName(), cause);
     }
 
     @Override
     public void dryRun() {
-        log.info("Dry run");
+        report(Level.INFO, "Dry run");
     }
 
     @Override
     public void pendingMethods(List<String> methods) {
-        log.error("Pending methods: {}", methods);
+        report(Level.ERROR, "Pending methods: {}", methods);
     }
 }
@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner.reporter;
+
+import org.slf4j.event.Level;
+
+/**
+ * Log the events of {@link LoggingReporter} are written to. Reporter asks whether the level is enabled before it
+ * passes the arguments, so disabled levels cost nothing.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+public interface ReportLog {
+
+    boolean isEnabled(Level level);
+
+    /**
+     * Logs the message in SLF4J format, arguments are formatted by the log and can be formatted later.
+     */
+    void log(Level level, String format, Object... arguments);
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner.reporter;
+
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+/**
+ * Report log which writes to the logger at once.
+ *
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+class Slf4jReportLog implements ReportLog {
+
+    private final Logger logger;
+
+    Slf4jReportLog(Logger logger) {
+        this.logger = logger;
+    }
+
+    @Override
+    public boolean isEnabled(Level level) {
+        switch (level) {
+            case ERROR:
+                return logger.isErrorEnabled();
+            case WARN:
+                return logger.isWarnEnabled();
+            case INFO:
+                return logger.isInfoEnabled();
+            case DEBUG:
+                return logger.isDebugEnabled();
+            default:
+                return logger.isTraceEnabled();
+        }
+    }
+
+    @Override
+    public void log(Level level, String format, Object... arguments) {
+        switch (level) {
+            case ERROR:
+                logger.error(format, arguments);
+                break;
+            case WARN:
+                logger.warn(format, arguments);
+                break;
+            case INFO:
+                logger.info(format, arguments);
+                break;
+            case DEBUG:
+                logger.debug(format, arguments);
+                break;
+            default:
+                logger.trace(format, arguments);
+        }
+    }
+}
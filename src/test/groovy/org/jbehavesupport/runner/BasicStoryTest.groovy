@@ -18,7 +18,9 @@
  */
 package org.jbehavesupport.runner
 
+import groovy.json.JsonSlurper
 import org.jbehavesupport.runner.story.BasicStory
+import org.jbehavesupport.runner.story.SharedConfigurationStories
 import org.junit.runner.Description
 import org.junit.runner.notification.RunNotifier
 import spock.lang.Specification
@@ -110,4 +112,64 @@ class BasicStoryTest extends Specification {
         children[0].displayName =~ /Story: basic_story.*/
         children[0].children.size() == 0
     }
+
+    @RestoreSystemProperties
+    def "Test correct notifications with asynchronous report log"() {
+        given:
+        System.setProperty("jbehave.report.async", "true")
+        def runner = new JUnitRunner(BasicStory)
+
+        when:
+        runner.run(notifier)
+
+        then:
+        1 * notifier.fireTestStarted({it.displayName.equals("Story: basic_story")} as Description)
+        then:
+        1 * notifier.fireTestStarted({it.displayName.contains("Given say Hello")} as Description)
+        then:
+        1 * notifier.fireTestFinished({it.displayName.contains("Given say Hello")} as Description)
+        then:
+        1 * notifier.fireTestFinished({it.displayName.equals("Story: basic_story")} as Description)
+        0 * notifier.fireTestFailure(_)
+    }
+
+    @RestoreSystemProperties
+    def "Test metrics summary of the run"() {
+        given:
+        def summaryFile = File.createTempFile("metrics", ".json")
+        System.setProperty("jbehave.metrics.summary", summaryFile.path)
+
+        when:
+        new JUnitRunner(BasicStory).run(notifier)
+        def summary = new JsonSlurper().parse(summaryFile)
+
+        then:
+        summary.keySet().containsAll(["runner.candidateSteps", "runner.createPerformableTree",
+                                      "runner.buildDescription", "runner.runStoriesAsPaths",
+                                      "runner.generateCrossReference", "reporter.beforeStory",
+                                      "reporter.beforeStep", "step.perform"])
+        summary["step.perform"].count == 1
+        summary["reporter.beforeStory"].count == 3
+
+        cleanup:
+        summaryFile.delete()
+    }
+
+    @RestoreSystemProperties
+    def "Test metrics of steps when steps factory shares the embedder configuration"() {
+        given:
+        def summaryFile = File.createTempFile("metrics", ".json")
+        System.setProperty("jbehave.metrics.summary", summaryFile.path)
+
+        when:
+        new JUnitRunner(SharedConfigurationStories).run(notifier)
+        def summary = new JsonSlurper().parse(summaryFile)
+
+        then:
+        summary["step.perform"].count == 1
+        summary.keySet().any { it.startsWith("step.perform: ") }
+
+        cleanup:
+        summaryFile.delete()
+    }
 }
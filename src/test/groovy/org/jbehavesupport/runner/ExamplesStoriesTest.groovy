@@ -18,12 +18,17 @@
  */
 package org.jbehavesupport.runner
 
+import groovy.json.JsonSlurper
 import org.jbehavesupport.runner.story.ExamplesStories
+import org.jbehavesupport.runner.story.ExamplesTableStories
 import org.junit.runner.Description
 import org.junit.runner.notification.RunNotifier
 import spock.lang.Specification
 import spock.util.environment.RestoreSystemProperties
 
+import java.nio.file.Files
+import java.nio.file.Paths
+
 /**
  * @author Michal Bocek
  * @since 13/03/17
@@ -145,4 +150,173 @@ class ExamplesStoriesTest extends Specification {
         children[0].displayName =~ /Story: Examples.*/
         children[0].children.size() == 0
     }
+
+    @RestoreSystemProperties
+    def "Test correct notifications for scenario level reporter"() {
+        given:
+        System.setProperty("jbehave.report.level", "SCENARIO")
+        def runner = new JUnitRunner(ExamplesStories)
+
+        when:
+        runner.run(notifier)
+
+        then:
+        1 * notifier.fireTestStarted({it.displayName.equals("Story: Examples")} as Description)
+        then:
+        1 * notifier.fireTestStarted({it.displayName.equals("Scenario: login to system")} as Description)
+        then:
+        1 * notifier.fireTestStarted({it.displayName.contains("Example: {url=http://examplescom/login, status=OK}")} as Description)
+        then:
+        1 * notifier.fireTestFinished({it.displayName.contains("Example: {url=http://examplescom/login, status=OK}")} as Description)
+        then:
+        1 * notifier.fireTestStarted({it.displayName.contains("Example: {url=http://examplescom/logout, status=NOK}")} as Description)
+        then:
+        1 * notifier.fireTestFinished({it.displayName.contains("Example: {url=http://examplescom/logout, status=NOK}")} as Description)
+        then:
+        1 * notifier.fireTestFinished({it.displayName.equals("Scenario: login to system")} as Description)
+        then:
+        1 * notifier.fireTestFinished({it.displayName.equals("Story: Examples")} as Description)
+        0 * notifier.fireTestStarted({it.displayName.contains("Given login with data")} as Description)
+        0 * notifier.fireTestFailure(_)
+    }
+
+    @RestoreSystemProperties
+    def "Test descriptions for scenario level reporter"() {
+        given:
+        System.setProperty("jbehave.report.level", "SCENARIO")
+        def runner = new JUnitRunner(ExamplesStories)
+
+        when:
+        def desc = runner.description
+        def children = desc.children
+
+        then:
+        desc.testClass == ExamplesStories
+        children.size() == 3
+        children[0].displayName =~ /BeforeStories.*/
+        children[1].displayName == "Story: Examples"
+        children[1].children[0].displayName == "Scenario: login to system"
+        children[1].children[0].children.size() == 2
+        children[1].children[0].children[0].displayName =~ /Example.*/
+        children[1].children[0].children[0].test
+        children[1].children[0].children[1].displayName =~ /Example.*/
+        children[1].children[0].children[1].test
+        children[2].displayName =~ /AfterStories.*/
+    }
+
+    @RestoreSystemProperties
+    def "Test correct notifications for descriptions loaded from cache"() {
+        given:
+        def cacheDirectory = Files.createTempDirectory("description-cache")
+        System.setProperty("jbehave.description.cache", cacheDirectory.toString())
+        def storedDescription = new JUnitRunner(ExamplesStories).description
+        def runner = new JUnitRunner(ExamplesStories)
+
+        expect:
+        Files.exists(cacheDirectory.resolve(ExamplesStories.name + ".cache"))
+        runner.@performableTree == null
+        displayNames(runner.description) == displayNames(storedDescription)
+
+        when:
+        runner.run(notifier)
+
+        then:
+        1 * notifier.fireTestStarted({it.displayName.equals("Story: Examples")} as Description)
+        then:
+        1 * notifier.fireTestStarted({it.displayName.contains("Example: {url=http://examplescom/login, status=OK}")} as Description)
+        then:
+        1 * notifier.fireTestFinished({it.displayName.contains("Example: {url=http://examplescom/login, status=OK}")} as Description)
+        then:
+        1 * notifier.fireTestStarted({it.displayName.contains("Example: {url=http://examplescom/logout, status=NOK}")} as Description)
+        then:
+        1 * notifier.fireTestFinished({it.displayName.contains("Example: {url=http://examplescom/logout, status=NOK}")} as Description)
+        then:
+        1 * notifier.fireTestFinished({it.displayName.equals("Story: Examples")} as Description)
+        0 * notifier.fireTestFailure(_)
+
+        cleanup:
+        cacheDirectory.toFile().deleteDir()
+    }
+
+    @RestoreSystemProperties
+    def "Test cached descriptions are rebuilt when examples table loaded from resource changes"() {
+        given:
+        def cacheDirectory = Files.createTempDirectory("description-cache")
+        System.setProperty("jbehave.description.cache", cacheDirectory.toString())
+        def table = Paths.get(getClass().getResource("/org/jbehavesupport/runner/story/examples.table").toURI())
+        def tableText = new String(Files.readAllBytes(table), "UTF-8")
+        def storedDescription = new JUnitRunner(ExamplesTableStories).description
+
+        when:
+        Files.write(table, (tableText + "|http://examples.com/home  |OK           |\n").getBytes("UTF-8"))
+        def runner = new JUnitRunner(ExamplesTableStories)
+
+        then:
+        examples(storedDescription).size() == 2
+        examples(runner.description).size() == 3
+        runner.@performableTree == null
+
+        cleanup:
+        Files.write(table, tableText.getBytes("UTF-8"))
+        cacheDirectory.toFile().deleteDir()
+    }
+
+    @RestoreSystemProperties
+    def "Test correct notifications for lazy descriptions"() {
+        given:
+        System.setProperty("jbehave.description.lazy", "true")
+        def runner = new JUnitRunner(ExamplesStories)
+
+        expect:
+        runner.description.children.every { it.children.isEmpty() }
+
+        when:
+        runner.run(notifier)
+
+        then:
+        1 * notifier.fireTestStarted({it.displayName.equals("Story: Examples")} as Description)
+        then:
+        1 * notifier.fireTestStarted({it.displayName.contains("Example: {url=http://examplescom/login, status=OK}")} as Description)
+        then:
+        1 * notifier.fireTestFinished({it.displayName.contains("Example: {url=http://examplescom/login, status=OK}")} as Description)
+        then:
+        1 * notifier.fireTestStarted({it.displayName.contains("Example: {url=http://examplescom/logout, status=NOK}")} as Description)
+        then:
+        1 * notifier.fireTestFinished({it.displayName.contains("Example: {url=http://examplescom/logout, status=NOK}")} as Description)
+        then:
+        1 * notifier.fireTestFinished({it.displayName.equals("Story: Examples")} as Description)
+        0 * notifier.fireTestFailure(_)
+    }
+
+    @RestoreSystemProperties
+    def "Test step metrics are kept by step pattern"() {
+        given:
+        def summaryFile = File.createTempFile("metrics", ".json")
+        System.setProperty("jbehave.metrics.summary", summaryFile.path)
+
+        when:
+        new JUnitRunner(ExamplesStories).run(notifier)
+        def summary = new JsonSlurper().parse(summaryFile)
+
+        then:
+        summary["step.perform"].count == 6
+        summary["step.perform: Given login with data: \$data"].count == 2
+        summary["step.perform: When I submit login data on \$url"].count == 2
+        summary["step.perform: Then user should be logged in \$status"].count == 2
+        summary.findAll { it.key.startsWith("step.perform: ") }.every { name, histogram ->
+            histogram.p50Nanos <= histogram.p99Nanos && histogram.p99Nanos <= histogram.maxNanos
+        }
+
+        cleanup:
+        summaryFile.delete()
+    }
+
+    private static List<String> displayNames(Description description) {
+        [description.displayName] + description.children.collectMany { displayNames(it) }
+    }
+
+    private static List<Description> examples(Description description) {
+        description.children.collectMany { it.children }.collectMany { it.children }
+            .findAll { it.displayName.startsWith("Example:") }
+    }
 }
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner
+
+import org.jbehavesupport.runner.story.FailFastStories
+import org.junit.runner.Description
+import org.junit.runner.notification.Failure
+import org.junit.runner.notification.RunNotifier
+import spock.lang.Specification
+import spock.lang.Unroll
+import spock.util.environment.RestoreSystemProperties
+
+/**
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+class FailFastStoriesTest extends Specification {
+
+    def notifier = Mock(RunNotifier)
+
+    @Unroll
+    @RestoreSystemProperties
+    def "Test stories after the threshold are ignored in #runMode run mode"() {
+        given:
+        System.setProperty("jbehave.failfast.threshold", "1")
+        System.setProperty("jbehave.run.mode", runMode)
+        def runner = new JUnitRunner(FailFastStories)
+
+        when:
+        runner.run(notifier)
+
+        then:
+        1 * notifier.fireTestStarted({it.displayName.equals("Story: FailedStep")} as Description)
+        then:
+        1 * notifier.fireTestFailure({it.description.displayName.contains("Then Failed step")} as Failure)
+        then:
+        1 * notifier.fireTestFinished({it.displayName.equals("Story: FailedStep")} as Description)
+        then:
+        1 * notifier.fireTestIgnored({it.displayName.equals("Story: GivenStory")} as Description)
+        0 * notifier.fireTestStarted({it.displayName.equals("Story: GivenStory")} as Description)
+
+        where:
+        runMode << ["EMBEDDER", "PERFORMABLE_TREE"]
+    }
+
+    @RestoreSystemProperties
+    def "Test stories are run until the threshold is reached"() {
+        given:
+        System.setProperty("jbehave.failfast.threshold", "2")
+        def runner = new JUnitRunner(FailFastStories)
+
+        when:
+        runner.run(notifier)
+
+        then:
+        1 * notifier.fireTestStarted({it.displayName.equals("Story: GivenStory")} as Description)
+        0 * notifier.fireTestIgnored({it.displayName.startsWith("Story:")} as Description)
+    }
+}
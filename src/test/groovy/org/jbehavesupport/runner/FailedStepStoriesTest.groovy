@@ -135,4 +135,26 @@ class FailedStepStoriesTest extends Specification {
         children[0].displayName =~ /Story: FailedStep.*/
         children[0].children.size() == 0
     }
+
+    @RestoreSystemProperties
+    def "Test failure is reported on the scenario for scenario level reporter"() {
+        given:
+        System.setProperty("jbehave.report.level", "SCENARIO")
+        def runner = new JUnitRunner(FailedStepStories)
+
+        when:
+        runner.run(notifier)
+
+        then:
+        1 * notifier.fireTestStarted({it.displayName.equals("Story: FailedStep")} as Description)
+        then:
+        1 * notifier.fireTestStarted({it.displayName.startsWith("Scenario: Failed step")} as Description)
+        then:
+        1 * notifier.fireTestFailure({it.description.displayName.startsWith("Scenario: Failed step")} as Failure)
+        then:
+        1 * notifier.fireTestFinished({it.displayName.startsWith("Scenario: Failed step")} as Description)
+        then:
+        1 * notifier.fireTestFinished({it.displayName.equals("Story: FailedStep")} as Description)
+        0 * notifier.fireTestIgnored(_)
+    }
 }
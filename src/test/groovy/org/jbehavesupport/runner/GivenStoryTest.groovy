@@ -120,4 +120,53 @@ class GivenStoryTest extends Specification {
         children[0].displayName =~ "Story: GivenStory"
         children[0].children.size() == 0
     }
+
+    @RestoreSystemProperties
+    def "Test discovery tree is kept only for performable tree run mode"() {
+        given:
+        System.setProperty("jbehave.run.mode", runMode)
+
+        when:
+        def runner = new JUnitRunner(GivenStories)
+
+        then:
+        (runner.performableTree != null) == kept
+
+        where:
+        runMode            | kept
+        "EMBEDDER"         | false
+        "PERFORMABLE_TREE" | true
+    }
+
+    @RestoreSystemProperties
+    def "Test correct notifications for performable tree run mode"() {
+        given:
+        System.setProperty("jbehave.run.mode", "PERFORMABLE_TREE")
+        def runner = new JUnitRunner(GivenStories)
+
+        when:
+        runner.run(notifier)
+
+        then:
+        1 * notifier.fireTestStarted({it.displayName.startsWith("BeforeStories")} as Description)
+        then:
+        1 * notifier.fireTestFinished({it.displayName.startsWith("BeforeStories")} as Description)
+        then:
+        1 * notifier.fireTestStarted({it.displayName.equals("Story: GivenStory")} as Description)
+        then:
+        1 * notifier.fireTestStarted({it.displayName.contains("GivenStory1")} as Description)
+        then:
+        1 * notifier.fireTestFinished({it.displayName.contains("GivenStory2")} as Description)
+        then:
+        1 * notifier.fireTestStarted({it.displayName.contains("Then User with name Tester is properly signed in")} as Description)
+        then:
+        1 * notifier.fireTestFinished({it.displayName.contains("Then User with name Tester is properly signed in")} as Description)
+        then:
+        1 * notifier.fireTestFinished({it.displayName.equals("Story: GivenStory")} as Description)
+        then:
+        1 * notifier.fireTestStarted({it.displayName.startsWith("AfterStories")} as Description)
+        then:
+        1 * notifier.fireTestFinished({it.displayName.startsWith("AfterStories")} as Description)
+        0 * notifier.fireTestFailure(_)
+    }
 }
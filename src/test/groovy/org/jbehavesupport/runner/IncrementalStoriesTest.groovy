@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner
+
+import org.jbehave.core.configuration.MostUsefulConfiguration
+import org.jbehave.core.io.StoryLoader
+import org.jbehave.core.model.ExamplesTableFactory
+import org.jbehave.core.model.TableTransformers
+import org.jbehave.core.parsers.RegexStoryParser
+import org.jbehave.core.steps.InstanceStepsFactory
+import org.jbehavesupport.runner.story.FailedStepStories
+import org.jbehavesupport.runner.story.GivenStories
+import org.jbehavesupport.runner.story.PendingStepStories
+import org.jbehavesupport.runner.story.UnusedStepsStories
+import org.jbehavesupport.runner.story.steps.LoginSteps
+import org.jbehavesupport.runner.story.steps.TestSteps
+import org.junit.runner.notification.RunNotifier
+import spock.lang.Specification
+import spock.util.environment.RestoreSystemProperties
+
+import java.nio.file.Files
+
+/**
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+class IncrementalStoriesTest extends Specification {
+
+    def texts = [
+        "story"  : "GivenStories: given\n\nScenario: story\nThen say Hello",
+        "given"  : "Scenario: given\nGiven say Hello",
+        "other"  : "Scenario: other\nGiven say Hello",
+        "table"  : "GivenStories: examples\n\nScenario: table\nGiven say Hello",
+        "examples" : "Scenario: examples\nGiven say <word>\nExamples:\nexamples.table",
+        "examples.table" : "|word|\n|Hello|"
+    ]
+
+    def incrementalStories(Object... steps = [new TestSteps()]) {
+        def storyLoader = { String path -> texts[path] } as StoryLoader
+        def configuration = new MostUsefulConfiguration()
+            .useStoryLoader(storyLoader)
+            .useStoryParser(new RegexStoryParser(new ExamplesTableFactory(storyLoader, new TableTransformers())))
+        new IncrementalStories(configuration,
+            new InstanceStepsFactory(configuration, steps).createCandidateSteps())
+    }
+
+    def "test story hash changes with the given stories of the story"() {
+        given:
+        def storyHash = incrementalStories().storyHash("story")
+        def otherStoryHash = incrementalStories().storyHash("other")
+
+        when:
+        texts["given"] = "Scenario: given\nGiven say Hello again"
+
+        then:
+        incrementalStories().storyHash("story") != storyHash
+        incrementalStories().storyHash("other") == otherStoryHash
+    }
+
+    def "test story hash changes with examples tables loaded by the given stories"() {
+        given:
+        def storyHash = incrementalStories().storyHash("table")
+
+        when:
+        texts["examples.table"] = "|word|\n|Hello|\n|Bye|"
+
+        then:
+        incrementalStories().storyHash("table") != storyHash
+    }
+
+    def "test fingerprint includes only the used steps classes"() {
+        given:
+        def incrementalStories = incrementalStories(new TestSteps(), new LoginSteps())
+        def storyHash = incrementalStories.storyHash("story")
+
+        expect:
+        incrementalStories.fingerprint(storyHash, [TestSteps.name]) ==
+            incrementalStories.fingerprint(storyHash, [TestSteps.name])
+        incrementalStories.fingerprint(storyHash, [TestSteps.name]) !=
+            incrementalStories.fingerprint(storyHash, [TestSteps.name, LoginSteps.name])
+    }
+
+    def "test story using a removed steps class is changed"() {
+        given:
+        def incrementalStories = incrementalStories()
+
+        expect:
+        incrementalStories.fingerprint(incrementalStories.storyHash("story"), ["org.example.RemovedSteps"]) == null
+    }
+
+    def "test story which can not be loaded is changed"() {
+        given:
+        texts["story"] = "GivenStories: missing\n\nScenario: story\nThen say Hello"
+
+        expect:
+        incrementalStories().storyHash("story") == null
+    }
+
+    @RestoreSystemProperties
+    def "test green story is not run again"() {
+        given:
+        def manifest = Files.createTempDirectory("incremental").resolve("manifest")
+        System.setProperty("jbehave.incremental.manifest", manifest.toString())
+
+        when:
+        new JUnitRunner(GivenStories).run(Mock(RunNotifier))
+
+        then:
+        IncrementalStories.load(manifest).keySet() == ["org/jbehavesupport/runner/story/GivenStory.story"] as Set
+        new JUnitRunner(GivenStories).description.children*.displayName.every { !it.startsWith("Story:") }
+
+        cleanup:
+        manifest.parent.toFile().deleteDir()
+    }
+
+    @RestoreSystemProperties
+    def "test manifest records steps classes of the performed steps only"() {
+        given:
+        def manifest = Files.createTempDirectory("incremental").resolve("manifest")
+        System.setProperty("jbehave.incremental.manifest", manifest.toString())
+
+        when:
+        new JUnitRunner(UnusedStepsStories).run(Mock(RunNotifier))
+
+        then:
+        IncrementalStories.load(manifest)["org/jbehavesupport/runner/story/basic_story.story"]
+            .endsWith(" " + TestSteps.name)
+        new JUnitRunner(UnusedStepsStories).description.children*.displayName.every { !it.startsWith("Story:") }
+
+        cleanup:
+        manifest.parent.toFile().deleteDir()
+    }
+
+    @RestoreSystemProperties
+    def "test failed story is run again"() {
+        given:
+        def manifest = Files.createTempDirectory("incremental").resolve("manifest")
+        System.setProperty("jbehave.incremental.manifest", manifest.toString())
+
+        when:
+        new JUnitRunner(FailedStepStories).run(Mock(RunNotifier))
+
+        then:
+        IncrementalStories.load(manifest).isEmpty()
+        new JUnitRunner(FailedStepStories).description.children*.displayName.contains("Story: FailedStep")
+
+        cleanup:
+        manifest.parent.toFile().deleteDir()
+    }
+
+    @RestoreSystemProperties
+    def "test story with pending step is run again"() {
+        given:
+        def manifest = Files.createTempDirectory("incremental").resolve("manifest")
+        System.setProperty("jbehave.incremental.manifest", manifest.toString())
+
+        when:
+        new JUnitRunner(PendingStepStories).run(Mock(RunNotifier))
+
+        then:
+        IncrementalStories.load(manifest).isEmpty()
+        new JUnitRunner(PendingStepStories).description.children*.displayName.contains("Story: PendingStep")
+
+        cleanup:
+        manifest.parent.toFile().deleteDir()
+    }
+}
@@ -123,4 +123,28 @@ class JUnitRunnerFormatterTest extends Specification {
         "Test(xx.xxx.xxxxx)" || "Test"
         "Test(xxx"           || "Test(xxx"
     }
+
+    def "test formatting gives the same texts as regex replacement"() {
+        given:
+        def random = new Random(42)
+        def characters = "ab .()\r\n\u2028"
+        def keywords = new Keywords()
+        def cleanup = { String text -> text.replaceAll("[\r\n]+", ", ").replaceAll("[()]", "|") }
+        def stripDots = { String text -> text.replaceAll("\\.", "") }
+        def storyName = { String text -> text.contains(".") ? text.substring(0, text.indexOf(".")) : text }
+
+        expect:
+        1000.times {
+            def text = (0..random.nextInt(20)).collect { characters[random.nextInt(characters.length())] }.join()
+            assert buildStoryText(text) == "Story: " + stripDots(cleanup(storyName(text)))
+            assert buildScenarioText(keywords, text) == keywords.scenario() + " " + stripDots(cleanup(text))
+            assert buildExampleText(keywords, text) == keywords.examplesTableRow() + " " + stripDots(cleanup(text))
+            assert normalizeStoryName(text) == cleanup(storyName(text))
+            assert removeClass(text) == text.replaceAll("\\(.*\\)", "")
+            if (!text.startsWith("\n")) {
+                def firstLine = text.indexOf("\n") == -1 ? text : text.substring(0, text.indexOf("\n") - 1)
+                assert normalizeStep(text) == cleanup(firstLine)
+            }
+        }
+    }
 }
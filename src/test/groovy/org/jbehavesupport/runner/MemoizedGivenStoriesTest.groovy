@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner
+
+import org.jbehavesupport.runner.story.MemoizedGivenStories
+import org.jbehavesupport.runner.story.steps.CountingSteps
+import org.junit.runner.Description
+import org.junit.runner.notification.Failure
+import org.junit.runner.notification.RunNotifier
+import spock.lang.Specification
+import spock.lang.Unroll
+import spock.util.environment.RestoreSystemProperties
+
+/**
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+class MemoizedGivenStoriesTest extends Specification {
+
+    def notifier = Mock(RunNotifier)
+
+    def setup() {
+        CountingSteps.MEMOIZED_SETUPS.set(0)
+    }
+
+    @Unroll
+    @RestoreSystemProperties
+    def "Test memoized given story is performed once, and for each parameterized inclusion, in #runMode run mode"() {
+        given:
+        System.setProperty("jbehave.givenstories.memoize", "true")
+        System.setProperty("jbehave.run.mode", runMode)
+        def runner = new JUnitRunner(MemoizedGivenStories)
+
+        when:
+        runner.run(notifier)
+
+        then:
+        CountingSteps.MEMOIZED_SETUPS.get() == 2
+        3 * notifier.fireTestStarted({it.displayName.contains("givenStory/MemoizedGivenStory")} as Description)
+        3 * notifier.fireTestFinished({it.displayName.contains("givenStory/MemoizedGivenStory")} as Description)
+        0 * notifier.fireTestFailure(_ as Failure)
+
+        where:
+        runMode << ["EMBEDDER", "PERFORMABLE_TREE"]
+    }
+
+    def "Test memoized given story is performed for each inclusion without memoization"() {
+        given:
+        def runner = new JUnitRunner(MemoizedGivenStories)
+
+        when:
+        runner.run(notifier)
+
+        then:
+        CountingSteps.MEMOIZED_SETUPS.get() == 3
+    }
+}
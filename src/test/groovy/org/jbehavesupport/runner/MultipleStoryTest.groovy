@@ -23,6 +23,8 @@ import org.junit.runner.Description
 import org.junit.runner.notification.RunNotifier
 import spock.lang.Specification
 import spock.util.environment.RestoreSystemProperties
+
+import java.nio.file.Files
 /**
  * @author Michal Bocek
  * @since 21/09/17
@@ -181,4 +183,113 @@ class MultipleStoryTest extends Specification {
         children[2].displayName =~ "Story: Scenario03"
         children[2].children.size() == 0
     }
+
+    @RestoreSystemProperties
+    def "Test correct notifications for stories run in parallel"() {
+        given:
+        System.setProperty("jbehave.threads", "3")
+        def runner = new JUnitRunner(MultipleStories)
+
+        when:
+        runner.run(notifier)
+
+        then:
+        1 * notifier.fireTestStarted({it.displayName.equals("Story: Scenario01")} as Description)
+        1 * notifier.fireTestStarted({it.displayName.equals("Story: Scenario01-1")} as Description)
+        1 * notifier.fireTestStarted({it.displayName.equals("Story: Scenario03")} as Description)
+        3 * notifier.fireTestStarted({it.displayName.contains("Given login with data")} as Description)
+        3 * notifier.fireTestFinished({it.displayName.contains("Given login with data")} as Description)
+        1 * notifier.fireTestFinished({it.displayName.contains("When I submit login data on http://test01")} as Description)
+        1 * notifier.fireTestFinished({it.displayName.contains("When I submit login data on http://test02")} as Description)
+        1 * notifier.fireTestFinished({it.displayName.contains("When I submit login data on http://test03")} as Description)
+        3 * notifier.fireTestFinished({it.displayName.contains("Then user should be logged in successful")} as Description)
+        1 * notifier.fireTestFinished({it.displayName.equals("Story: Scenario01")} as Description)
+        1 * notifier.fireTestFinished({it.displayName.equals("Story: Scenario01-1")} as Description)
+        1 * notifier.fireTestFinished({it.displayName.equals("Story: Scenario03")} as Description)
+        0 * notifier.fireTestFailure(_)
+    }
+
+    @RestoreSystemProperties
+    def "Test descriptions of shards"() {
+        given:
+        System.setProperty("jbehave.shard.count", "2")
+
+        when:
+        def shards = (0..1).collect { index ->
+            System.setProperty("jbehave.shard.index", index.toString())
+            new JUnitRunner(MultipleStories).description.children
+        }
+
+        then:
+        shards.each { children ->
+            assert children.first().displayName =~ /BeforeStories.*/
+            assert children.last().displayName =~ /AfterStories.*/
+        }
+        shards.collectMany { it.subList(1, it.size() - 1)*.displayName }.sort() ==
+            ["Story: Scenario01", "Story: Scenario01-1", "Story: Scenario03"]
+    }
+
+    @RestoreSystemProperties
+    def "Test shard index out of range"() {
+        given:
+        System.setProperty("jbehave.shard.count", "2")
+        System.setProperty("jbehave.shard.index", "2")
+
+        when:
+        new JUnitRunner(MultipleStories)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    @RestoreSystemProperties
+    def "Test story timings are recorded for stories run in parallel"() {
+        given:
+        def timings = Files.createTempFile("story-timings", ".properties")
+        timings.text = "other.story=5\n"
+        System.setProperty("jbehave.threads", "3")
+        System.setProperty("jbehave.story.timings", timings.toString())
+
+        when:
+        new JUnitRunner(MultipleStories).run(notifier)
+
+        then:
+        def durations = StoryTimings.load(timings)
+        durations.keySet() == [
+            "org/jbehavesupport/runner/story/multipleScenario/Scenario01-1.story",
+            "org/jbehavesupport/runner/story/multipleScenario/Scenario01.story",
+            "org/jbehavesupport/runner/story/multipleScenario/Scenario03.story",
+            "other.story"] as Set
+        durations["other.story"] == 5
+
+        cleanup:
+        Files.deleteIfExists(timings)
+    }
+
+    @RestoreSystemProperties
+    def "Test descriptions of shards balanced by story timings"() {
+        given:
+        def timings = Files.createTempFile("story-timings", ".properties")
+        timings.text = """\
+            org/jbehavesupport/runner/story/multipleScenario/Scenario01.story=100
+            org/jbehavesupport/runner/story/multipleScenario/Scenario01-1.story=10
+            org/jbehavesupport/runner/story/multipleScenario/Scenario03.story=10
+            """.stripIndent()
+        System.setProperty("jbehave.shard.count", "2")
+        System.setProperty("jbehave.shard.strategy", "BALANCED")
+        System.setProperty("jbehave.story.timings", timings.toString())
+
+        when:
+        def shards = (0..1).collect { index ->
+            System.setProperty("jbehave.shard.index", index.toString())
+            def children = new JUnitRunner(MultipleStories).description.children
+            children.subList(1, children.size() - 1)*.displayName
+        }
+
+        then:
+        shards == [["Story: Scenario01"], ["Story: Scenario01-1", "Story: Scenario03"]]
+
+        cleanup:
+        Files.deleteIfExists(timings)
+    }
 }
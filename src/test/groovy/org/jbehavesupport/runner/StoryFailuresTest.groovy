@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner
+
+import org.jbehavesupport.runner.story.FailedStepStories
+import org.jbehavesupport.runner.story.GivenStories
+import org.jbehavesupport.runner.story.MultipleStories
+import org.junit.runner.notification.RunNotifier
+import spock.lang.Specification
+import spock.util.environment.RestoreSystemProperties
+
+import java.nio.file.Files
+
+/**
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+class StoryFailuresTest extends Specification {
+
+    def directory = Files.createTempDirectory("failures")
+    def failuresFile = directory.resolve("story-failures.properties")
+
+    def cleanup() {
+        directory.toFile().deleteDir()
+    }
+
+    @RestoreSystemProperties
+    def "test failed scenarios are stored"() {
+        given:
+        System.setProperty("jbehave.story.failures", failuresFile.toString())
+
+        when:
+        new JUnitRunner(FailedStepStories).run(Mock(RunNotifier))
+
+        then:
+        failuresFile.readLines() == ["org/jbehavesupport/runner/story/FailedStep.story=Failed step"]
+    }
+
+    @RestoreSystemProperties
+    def "test failures of green stories are removed and other failures are kept"() {
+        given:
+        failuresFile.text = "org/jbehavesupport/runner/story/GivenStory.story=Given story test\nother.story=\n"
+        System.setProperty("jbehave.story.failures", failuresFile.toString())
+
+        when:
+        new JUnitRunner(GivenStories).run(Mock(RunNotifier))
+
+        then:
+        failuresFile.readLines() == ["other.story="]
+    }
+
+    @RestoreSystemProperties
+    def "test failed stories are run #mode"() {
+        given:
+        failuresFile.text = "org/jbehavesupport/runner/story/multipleScenario/Scenario03.story=Scenario 3\n"
+        System.setProperty("jbehave.story.failures", failuresFile.toString())
+        System.setProperty("jbehave.run.failed", mode)
+
+        when:
+        def runner = new JUnitRunner(MultipleStories)
+
+        then:
+        runner.@storyPaths == expectedPaths.collect { "org/jbehavesupport/runner/story/multipleScenario/" + it }
+        runner.description.children*.displayName.findAll { it.startsWith("Story:") } ==
+            expectedPaths.collect { "Story: " + (it - ".story") }
+
+        where:
+        mode    | expectedPaths
+        "FIRST" | ["Scenario03.story", "Scenario01.story", "Scenario01-1.story"]
+        "ONLY"  | ["Scenario03.story"]
+    }
+
+    @RestoreSystemProperties
+    def "test all stories are run when there is no failures file"() {
+        given:
+        System.setProperty("jbehave.story.failures", failuresFile.toString())
+        System.setProperty("jbehave.run.failed", "ONLY")
+
+        when:
+        def runner = new JUnitRunner(MultipleStories)
+
+        then:
+        runner.@storyPaths == ["Scenario01.story", "Scenario01-1.story", "Scenario03.story"].collect {
+            "org/jbehavesupport/runner/story/multipleScenario/" + it
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+/**
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+class StoryShardingTest extends Specification {
+
+    def stories = ["a", "b", "c", "d", "e", "f"]
+
+    @Unroll
+    def "test balanced shards of #durations"() {
+        when:
+        def shards = (0..<expected.size()).collect {
+            new StorySharding(it, expected.size(), durations).select(stories)
+        }
+
+        then:
+        shards == expected
+
+        where:
+        durations                                   | expected
+        [a: 7L, b: 5L, c: 4L, d: 3L, e: 2L, f: 1L]  | [["a", "d", "f"], ["b", "c", "e"]]
+        [a: 1L, b: 1L, c: 1L, d: 1L, e: 1L, f: 10L] | [["f"], ["a", "c", "e"], ["b", "d"]]
+        [a: 1L, b: 1L, f: 10L]                      | [["a", "b", "f"], ["c", "d", "e"]]
+        [:]                                         | [["a", "c", "e"], ["b", "d", "f"]]
+    }
+
+    def "test every story is in exactly one balanced shard"() {
+        given:
+        def random = new Random(42)
+        def paths = (1..100).collect { "story" + it }
+        def durations = paths.collectEntries { [(it): (long) random.nextInt(1000)] }
+
+        when:
+        def shards = (0..<7).collect { new StorySharding(it, 7, durations).select(paths) }
+
+        then:
+        shards.flatten().sort() == paths.sort()
+        def loads = shards.collect { shard -> shard.sum { durations[it] } }
+        loads.max() - loads.min() <= durations.values().max()
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.jbehavesupport.runner.description
+
+import org.jbehave.core.configuration.MostUsefulConfiguration
+import org.jbehave.core.steps.InstanceStepsFactory
+import org.jbehavesupport.runner.story.steps.TestSteps
+import spock.lang.Specification
+
+/**
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+class StepCandidateCacheTest extends Specification {
+
+    def "test resolve counts hits and misses"() {
+        given:
+        def cache = new StepCandidateCache()
+        def candidate = new InstanceStepsFactory(new MostUsefulConfiguration(), new TestSteps())
+            .createCandidateSteps()[0]
+            .listCandidates()[0]
+        def resolver = Mock(java.util.function.Supplier)
+
+        when:
+        def first = cache.resolve("Given say Hello", null, resolver)
+        def second = cache.resolve("Given say Hello", null, resolver)
+        def third = cache.resolve("Given say Hello", "Given ", resolver)
+
+        then:
+        2 * resolver.get() >> candidate
+        first == candidate
+        second == candidate
+        third == candidate
+        cache.hits == 1
+        cache.misses == 2
+    }
+
+    def "test resolve caches unknown steps"() {
+        given:
+        def cache = new StepCandidateCache()
+        def resolver = Mock(java.util.function.Supplier)
+
+        when:
+        def first = cache.resolve("Given unknown", null, resolver)
+        def second = cache.resolve("Given unknown", null, resolver)
+
+        then:
+        1 * resolver.get() >> null
+        first == null
+        second == null
+        cache.hits == 1
+    }
+
+    def "test cache is bounded"() {
+        given:
+        def cache = new StepCandidateCache(2)
+
+        when:
+        ["a", "b", "c", "a"].each { cache.resolve(it, null, { null }) }
+
+        then:
+        cache.size() == 2
+        cache.misses == 4
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.jbehavesupport.runner.description
+
+import org.jbehave.core.configuration.MostUsefulConfiguration
+import org.jbehave.core.steps.InstanceStepsFactory
+import org.jbehave.core.steps.StepCandidate
+import org.jbehavesupport.runner.story.steps.LoginSteps
+import org.jbehavesupport.runner.story.steps.TestSteps
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Unroll
+
+/**
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+class StepCandidateIndexTest extends Specification {
+
+    @Shared
+    def configuration = new MostUsefulConfiguration()
+
+    @Shared
+    List<StepCandidate> candidates = []
+
+    @Shared
+    def index = new StepCandidateIndex()
+
+    def setupSpec() {
+        new InstanceStepsFactory(configuration, new TestSteps(), new LoginSteps()).createCandidateSteps().each {
+            def stepCandidates = it.listCandidates()
+            candidates.addAll(stepCandidates)
+            index.addAll(it.configuration(), stepCandidates)
+        }
+    }
+
+    @Unroll
+    def "test findFirst for '#step' after '#previousNonAndStep' is the same as linear scan"() {
+        when:
+        def candidate = index.findFirst(step, previousNonAndStep)
+
+        then:
+        candidate == candidates.find { it.matches(step, previousNonAndStep) }
+
+        where:
+        step                                          | previousNonAndStep
+        "Given say Hello"                             | null
+        "And say Hello"                               | "Given "
+        "And say Hello"                               | "When "
+        "And say Hello"                               | null
+        "When Sign in user Tester"                    | null
+        "When Sign  in\tuser Tester"                  | null
+        "When Sign up with audit"                     | null
+        "Then User with name Tester is properly signed in" | null
+        "Given login with data:\n|username|\n|John|"  | null
+        "When I submit login data on <url>"           | null
+        "Then say Hello"                              | null
+        "Given unknown step"                          | null
+        "!-- comment"                                 | null
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.jbehavesupport.runner.description
+
+import org.jbehave.core.configuration.MostUsefulConfiguration
+import org.jbehave.core.embedder.EmbedderMonitor
+import org.jbehave.core.embedder.MetaFilter
+import org.jbehave.core.embedder.PerformableTree
+import org.jbehave.core.failures.BatchFailures
+import org.jbehave.core.steps.InstanceStepsFactory
+import org.jbehavesupport.runner.JUnitRunner
+import org.jbehavesupport.runner.story.steps.LoginSteps
+import org.jbehavesupport.runner.story.steps.TestSteps
+import org.junit.runner.Description
+import spock.lang.Specification
+
+/**
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+class StepLevelDescriptionBuilderTest extends Specification {
+
+    def storyPaths = [
+        "org/jbehavesupport/runner/story/basic_story.story",
+        "org/jbehavesupport/runner/story/AndStep.story",
+        "org/jbehavesupport/runner/story/CompositeStep.story",
+        "org/jbehavesupport/runner/story/Examples.story",
+        "org/jbehavesupport/runner/story/GivenStory.story",
+        "org/jbehavesupport/runner/story/multipleScenario/Scenario01.story",
+        "org/jbehavesupport/runner/story/multipleScenario/Scenario01-1.story",
+        "org/jbehavesupport/runner/story/multipleScenario/Scenario03.story",
+        "org/jbehavesupport/runner/story/basic_story.story"
+    ]
+
+    def "test parallel build gives the same descriptions as sequential build"() {
+        given:
+        def configuration = new MostUsefulConfiguration()
+        def candidateSteps = new InstanceStepsFactory(configuration, new TestSteps(), new LoginSteps())
+            .createCandidateSteps()
+        def tree = performableTree(configuration, candidateSteps)
+        def parallelBuilder = StoryParser.parse(tree, JUnitRunner.ReportLevel.STEP)
+            .withCandidateSteps(candidateSteps)
+        def sequentialBuilder = StoryParser.parse(tree, JUnitRunner.ReportLevel.STEP)
+            .withCandidateSteps(candidateSteps)
+
+        when:
+        def parallel = parallelBuilder.buildDescription().storyDescriptions
+        def sequential = tree.root.stories.collect { sequentialBuilder.createStoryDescription(it) }
+
+        then:
+        parallel.size() == sequential.size() + 2
+        displayNames(parallel.subList(1, parallel.size() - 1)) == displayNames(sequential)
+    }
+
+    def "test scenario plans have the same steps and examples as found in descriptions"() {
+        given:
+        def configuration = new MostUsefulConfiguration()
+        def candidateSteps = new InstanceStepsFactory(configuration, new TestSteps(), new LoginSteps())
+            .createCandidateSteps()
+        def builder = StoryParser.parse(performableTree(configuration, candidateSteps), JUnitRunner.ReportLevel.STEP)
+            .withCandidateSteps(candidateSteps)
+
+        when:
+        def storyResult = builder.buildDescription()
+        def scenarios = storyResult.storyDescriptions.findAll { it.suite }
+            .collectMany { it.children.findAll { it.suite } }
+
+        then:
+        !scenarios.isEmpty()
+        scenarios.each { scenario ->
+            def plan = storyResult.scenarioPlans.getPlan(scenario)
+            def expected = ScenarioPlan.of(scenario, configuration.keywords().examplesTableRow())
+            assert plan.steps.toList() == expected.steps.toList()
+            assert plan.examples.toList() == expected.examples.toList()
+        }
+        scenarios.any { storyResult.scenarioPlans.getPlan(it).examples.length > 0 }
+    }
+
+    def "test lazy stories are expanded to the same descriptions as built at once"() {
+        given:
+        def configuration = new MostUsefulConfiguration()
+        def candidateSteps = new InstanceStepsFactory(configuration, new TestSteps(), new LoginSteps())
+            .createCandidateSteps()
+        def tree = performableTree(configuration, candidateSteps)
+        def eager = StoryParser.parse(tree, JUnitRunner.ReportLevel.STEP)
+            .withCandidateSteps(candidateSteps)
+            .buildDescription()
+        def lazy = StoryParser.parse(tree, JUnitRunner.ReportLevel.STEP)
+            .withCandidateSteps(candidateSteps)
+            .buildLazyDescription()
+
+        when:
+        def scenarioPlans = new ScenarioPlans()
+        def expanded = lazy.storyDescriptions.collect {
+            lazy.lazyStories.isLazy(it) ? lazy.lazyStories.expand(it, scenarioPlans) : it
+        }
+
+        then:
+        lazy.storyDescriptions.every { it.children.isEmpty() }
+        displayNames(expanded) == displayNames(eager.storyDescriptions)
+        expanded.collectMany { it.children.findAll { it.suite } }.every { scenarioPlans.getPlan(it) != null }
+        lazy.storyDescriptions.every { !lazy.lazyStories.isLazy(it) }
+    }
+
+    def "test composite step is expanded once for repeated occurrences"() {
+        given:
+        storyPaths = [
+            "org/jbehavesupport/runner/story/CompositeStep.story",
+            "org/jbehavesupport/runner/story/RepeatedCompositeStep.story"
+        ]
+        def configuration = new MostUsefulConfiguration()
+        def candidateSteps = new InstanceStepsFactory(configuration, new TestSteps())
+            .createCandidateSteps()
+        def builder = StoryParser.parse(performableTree(configuration, candidateSteps), JUnitRunner.ReportLevel.STEP)
+            .withCandidateSteps(candidateSteps)
+
+        when:
+        def composites = builder.buildDescription().storyDescriptions
+            .collectMany { it.children }
+            .collectMany { it.children }
+            .findAll { it.displayName.startsWith("When Sign up with audit") }
+
+        then:
+        composites.size() == 3
+        composites.every { composite ->
+            composite.children.size() == 2 &&
+                composite.children[0].displayName.startsWith("When Sign up user") &&
+                composite.children[1].displayName.startsWith("When Auditing user")
+        }
+        builder.compositeStepExpansions.size() == 1
+    }
+
+    private PerformableTree performableTree(configuration, candidateSteps) {
+        def tree = new PerformableTree()
+        def context = tree.newRunContext(configuration, candidateSteps, Mock(EmbedderMonitor), MetaFilter.EMPTY,
+            new BatchFailures())
+        tree.addStories(context, storyPaths.collect { tree.storyOfPath(configuration, it) })
+        tree
+    }
+
+    private List<String> displayNames(List<Description> descriptions) {
+        descriptions.collectMany { [it.displayName] + displayNames(it.children) }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.jbehavesupport.runner.description
+
+import org.jbehave.core.model.Story
+import org.junit.runner.Description
+import spock.lang.Specification
+
+import static org.junit.runner.Description.createSuiteDescription
+import static org.junit.runner.Description.createTestDescription
+
+/**
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+class StoryDescriptionIndexTest extends Specification {
+
+    def before = createTestDescription(Story, "BeforeStories")
+    def first = createSuiteDescription("Story: First")
+    def second = createTestDescription(Story, "Story: Second")
+    def after = createTestDescription(Story, "AfterStories")
+
+    def index = new StoryDescriptionIndex(root(before, first, second, after))
+
+    def "test getDescriptions finds descriptions by display name without class"() {
+        expect:
+        index.getDescriptions("Story: First") == [first]
+        index.getDescriptions("Story: Second") == [second]
+        index.getDescriptions("BeforeStories") == [before]
+        index.getDescriptions("Story: Third").isEmpty()
+    }
+
+    def "test getDescriptions keeps the order of root children"() {
+        expect:
+        index.getDescriptions("AfterStories", "Story: Second", "BeforeStories") == [before, second, after]
+    }
+
+    private static Description root(Description... children) {
+        def root = createSuiteDescription("root")
+        children.each { root.addChild(it) }
+        root
+    }
+}
@@ -47,4 +47,22 @@ class UniqueDescriptionGeneratorTest extends Specification {
         "test"||6
 
     }
+
+    def "test getUnique gives the same descriptions as probing for unused description"() {
+        given:
+        def uniqueGenerator = new UniqueDescriptionGenerator()
+        def used = [] as Set
+        def zws = "\u200B"
+        def sequence = ["a", "a", "a" + zws, "b", "a", "a" + zws * 5, "a", "a", "a", "", "", zws, "b" + zws * 2, "b"]
+
+        expect:
+        sequence.each { description ->
+            def expected = description
+            while (used.contains(expected)) {
+                expected += zws
+            }
+            used.add(expected)
+            assert uniqueGenerator.getUnique(description) == expected
+        }
+    }
 }
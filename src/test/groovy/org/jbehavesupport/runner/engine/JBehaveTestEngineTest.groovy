@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner.engine
+
+import org.jbehavesupport.runner.story.ExamplesStories
+import org.jbehavesupport.runner.story.FailedStepStories
+import org.jbehavesupport.runner.story.GivenStories
+import org.jbehavesupport.runner.story.MultipleStories
+import org.junit.platform.engine.UniqueId
+import org.junit.platform.testkit.engine.EngineTestKit
+import spock.lang.Specification
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request
+
+/**
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+class JBehaveTestEngineTest extends Specification {
+
+    def "test stories are registered at discovery without scenarios"() {
+        when:
+        def engineDescriptor = new JBehaveTestEngine().discover(request().selectors(selectClass(MultipleStories))
+            .configurationParameter(JBehaveTestEngine.ENABLED, "true").build(),
+            UniqueId.forEngine(JBehaveTestEngine.ENGINE_ID))
+        def storiesDescriptor = engineDescriptor.children[0]
+
+        then:
+        storiesDescriptor.displayName == "MultipleStories"
+        storiesDescriptor.children*.displayName == [
+            "Story: Scenario01", "Story: Scenario01-1", "Story: Scenario03"]
+        storiesDescriptor.children.every { it.children.isEmpty() }
+    }
+
+    def "test nothing is discovered unless the engine is enabled"() {
+        when:
+        def engineDescriptor = new JBehaveTestEngine().discover(
+            request().selectors(selectClass(MultipleStories)).build(), UniqueId.forEngine(JBehaveTestEngine.ENGINE_ID))
+
+        then:
+        engineDescriptor.children.isEmpty()
+    }
+
+    def "test scenarios, examples and steps are registered while the story runs"() {
+        when:
+        def events = engine().selectors(selectClass(ExamplesStories)).execute()
+
+        then:
+        events.containers().dynamicallyRegistered().list()*.testDescriptor*.displayName.containsAll([
+            "BeforeStories", "Scenario: login to system",
+            "Example: {url=http://examplescom/login, status=OK}",
+            "Example: {url=http://examplescom/logout, status=NOK}", "AfterStories"])
+        events.tests().succeeded().list()*.testDescriptor*.displayName == [
+            "Given login with data", "When I submit login data on <url>", "Then user should be logged in <status>",
+            "Given login with data", "When I submit login data on <url>", "Then user should be logged in <status>"]
+        events.containers().failed().count() == 0
+    }
+
+    def "test failed step is reported and following steps are skipped"() {
+        when:
+        def events = engine().selectors(selectClass(FailedStepStories)).execute()
+
+        then:
+        events.tests().failed().list()*.testDescriptor*.displayName == ["Then Failed step"]
+        events.tests().skipped().list()*.testDescriptor*.displayName == [
+            "When Auditing user", "Then User with name Tester is properly signed in"]
+        events.tests().succeeded().list()*.testDescriptor*.displayName == [
+            "When Sign up user", "When Auditing user", "When Sign up with audit"]
+    }
+
+    def "test given stories are reported as tests"() {
+        when:
+        def events = engine().selectors(selectClass(GivenStories)).execute()
+
+        then:
+        events.tests().succeeded().list()*.testDescriptor*.displayName == [
+            "org/jbehavesupport/runner/story/givenStory/GivenStory1",
+            "org/jbehavesupport/runner/story/givenStory/GivenStory2",
+            "Then User with name Tester is properly signed in"]
+    }
+
+    def "test stories run in parallel"() {
+        when:
+        def events = engine()
+            .configurationParameter(JBehaveTestEngine.PARALLEL_EXECUTION_ENABLED, "true")
+            .configurationParameter(JBehaveTestEngine.PARALLEL_CONFIG_PREFIX + "strategy", "fixed")
+            .configurationParameter(JBehaveTestEngine.PARALLEL_CONFIG_PREFIX + "fixed.parallelism", "3")
+            .selectors(selectClass(MultipleStories))
+            .execute()
+
+        then:
+        events.containers().succeeded().list()*.testDescriptor*.displayName.containsAll([
+            "Story: Scenario01", "Story: Scenario01-1", "Story: Scenario03"])
+        events.tests().failed().count() == 0
+        events.tests().succeeded().count() > 0
+    }
+
+    private static EngineTestKit.Builder engine() {
+        EngineTestKit.engine(JBehaveTestEngine.ENGINE_ID).configurationParameter(JBehaveTestEngine.ENABLED, "true")
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner.metrics
+
+import groovy.json.JsonSlurper
+import spock.lang.Specification
+
+/**
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+class HistogramRunnerMetricsTest extends Specification {
+
+    def "test percentiles are estimated within a sixteenth"() {
+        given:
+        def histogram = new Histogram()
+        (1..1000).each { histogram.record(it * 1000L) }
+
+        expect:
+        histogram.count == 1000
+        histogram.total == 500_500_000L
+        histogram.mean == 500_500L
+        histogram.max == 1_000_000L
+        [50, 90, 99].every { percentile ->
+            def exact = percentile * 10_000L
+            def estimate = histogram.getPercentile(percentile)
+            estimate >= exact && estimate <= exact + exact.intdiv(16)
+        }
+        histogram.getPercentile(100) == histogram.max
+    }
+
+    def "test small and huge durations are kept"() {
+        given:
+        def histogram = new Histogram()
+
+        when:
+        [0L, 1L, 15L, 16L, 17L, Long.MAX_VALUE].each { histogram.record(it) }
+
+        then:
+        histogram.getPercentile(1) == 0
+        histogram.getPercentile(50) == 15
+        histogram.getPercentile(60) == 16
+        histogram.getPercentile(100) == Long.MAX_VALUE
+    }
+
+    def "test summary is written as JSON sorted by name"() {
+        given:
+        def summaryFile = File.createTempFile("metrics", ".json").toPath()
+        def metrics = new HistogramRunnerMetrics(summaryFile)
+
+        when:
+        metrics.record("reporter.beforeStep", 10)
+        metrics.record("reporter.beforeStep", 30)
+        metrics.record("step \"quoted\"\n", 5)
+        metrics.runFinished()
+        def summary = new JsonSlurper().parse(summaryFile.toFile())
+
+        then:
+        summary.keySet().toList() == ["reporter.beforeStep", "step \"quoted\"\n"]
+        summary["reporter.beforeStep"].count == 2
+        summary["reporter.beforeStep"].totalNanos == 40
+        summary["reporter.beforeStep"].meanNanos == 20
+        summary["reporter.beforeStep"].maxNanos == 30
+
+        cleanup:
+        summaryFile.toFile().delete()
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner.reporter
+
+import org.slf4j.event.Level
+import org.slf4j.helpers.MessageFormatter
+import spock.lang.Specification
+import spock.lang.Timeout
+
+import java.util.concurrent.CountDownLatch
+
+/**
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+class AsyncReportLogTest extends Specification {
+
+    def "test events are written in order by the time the log is closed"() {
+        given:
+        def delegate = new RecordingReportLog()
+        def asyncReportLog = new AsyncReportLog(delegate, 16)
+
+        when:
+        (1..100).each { asyncReportLog.log(Level.INFO, "Step: {}", it) }
+        asyncReportLog.close()
+
+        then:
+        def written = delegate.messages.findAll { it.startsWith("Step") }
+        written.size() + asyncReportLog.dropped == 100
+        written == written.sort(false) { it.substring(6) as int }
+        droppedInMessages(delegate) == asyncReportLog.dropped
+    }
+
+    @Timeout(10)
+    def "test events are dropped without blocking when the log can't keep up"() {
+        given:
+        def delegate = new RecordingReportLog(blocked: new CountDownLatch(1))
+        def asyncReportLog = new AsyncReportLog(delegate, 8)
+
+        when:
+        (1..100).each { asyncReportLog.log(Level.INFO, "Step: {}", it) }
+        (1..2).each { asyncReportLog.log(Level.ERROR, "Failed: {}", it) }
+        delegate.blocked.countDown()
+        asyncReportLog.close()
+
+        then:
+        asyncReportLog.dropped >= 93
+        delegate.messages.findAll { it.startsWith("Failed") } == ["Failed: 1", "Failed: 2"]
+        droppedInMessages(delegate) == asyncReportLog.dropped
+    }
+
+    def "test events after close are written at once"() {
+        given:
+        def delegate = new RecordingReportLog()
+        def asyncReportLog = new AsyncReportLog(delegate, 4)
+        asyncReportLog.close()
+
+        when:
+        asyncReportLog.log(Level.INFO, "After close: {}", 1)
+
+        then:
+        delegate.messages == ["After close: 1"]
+    }
+
+    private static long droppedInMessages(RecordingReportLog reportLog) {
+        reportLog.messages.findAll { it.endsWith("report events dropped, the log can not keep up with reporting") }
+            .sum(0L) { it.split(" ")[0] as long }
+    }
+
+    private static class RecordingReportLog implements ReportLog {
+        List<String> messages = Collections.synchronizedList([])
+        CountDownLatch blocked
+
+        @Override
+        boolean isEnabled(Level level) {
+            true
+        }
+
+        @Override
+        void log(Level level, String format, Object... arguments) {
+            blocked?.await()
+            messages << MessageFormatter.arrayFormat(format, arguments).message
+        }
+    }
+}
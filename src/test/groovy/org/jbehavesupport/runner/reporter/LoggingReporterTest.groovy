@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbehavesupport.runner.reporter
+
+import org.jbehave.core.model.ExamplesTable
+import org.jbehave.core.model.Meta
+import org.slf4j.event.Level
+import spock.lang.Specification
+import spock.lang.Unroll
+
+/**
+ * @author Michal Bocek
+ * @since 18/10/2026
+ */
+class LoggingReporterTest extends Specification {
+
+    @Unroll
+    def "test #verbosity verbosity logs #expected"() {
+        given:
+        def reportLog = Mock(ReportLog)
+        def reporter = new LoggingReporter()
+        reporter.useReportLog(reportLog)
+        reporter.useVerbosity(verbosity)
+        def levels = []
+
+        when:
+        reporter.beforeStep("Given step")
+        reporter.successful("Given step")
+        reporter.notPerformed("Then step")
+        reporter.failed("When step", new IllegalStateException())
+
+        then:
+        _ * reportLog.isEnabled(_) >> true
+        _ * reportLog.log(*_) >> { Level level, String format, Object[] arguments -> levels << level }
+        levels == expected
+
+        where:
+        verbosity                           | expected
+        LoggingReporter.Verbosity.FULL      | [Level.INFO, Level.INFO, Level.WARN, Level.ERROR]
+        LoggingReporter.Verbosity.FAILURES  | [Level.WARN, Level.ERROR]
+        LoggingReporter.Verbosity.NONE      | []
+    }
+
+    @Unroll
+    def "test #verbosity verbosity doesn't touch examples table and meta"() {
+        given:
+        def reportLog = Mock(ReportLog)
+        def table = Mock(ExamplesTable, constructorArgs: [""])
+        def meta = Mock(Meta)
+        def reporter = new LoggingReporter()
+        reporter.useReportLog(reportLog)
+        reporter.useVerbosity(verbosity)
+
+        when:
+        reporter.beforeExamples(["Given step"], table)
+        reporter.scenarioMeta(meta)
+
+        then:
+        0 * reportLog.isEnabled(_)
+        0 * reportLog.log(*_)
+        0 * table._
+        0 * meta._
+
+        where:
+        verbosity << [LoggingReporter.Verbosity.FAILURES, LoggingReporter.Verbosity.NONE]
+    }
+}